@@ -21,4 +21,24 @@ public class DistanceCalculator {
 
         return EARTH_RADIUS_KM * c;
     }
+
+    public static BoundingBox boundingBox(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double longitudeDelta = Math.toDegrees(radiusKm / (EARTH_RADIUS_KM * Math.cos(Math.toRadians(latitude))));
+
+        return new BoundingBox(
+                latitude - latitudeDelta,
+                latitude + latitudeDelta,
+                longitude - longitudeDelta,
+                longitude + longitudeDelta
+        );
+    }
+
+    public record BoundingBox(
+            double minLatitude,
+            double maxLatitude,
+            double minLongitude,
+            double maxLongitude
+    ) {
+    }
 }
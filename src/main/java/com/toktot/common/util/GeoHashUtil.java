@@ -0,0 +1,82 @@
+package com.toktot.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class GeoHashUtil {
+
+    private static final int BITS_PER_AXIS = 26;
+    private static final int MAX_CELLS_PER_AXIS = 3;
+
+    public static long encode(double latitude, double longitude) {
+        long latitudeIndex = cellIndex(latitude, -90, 180, BITS_PER_AXIS);
+        long longitudeIndex = cellIndex(longitude, -180, 360, BITS_PER_AXIS);
+        return interleave(longitudeIndex, latitudeIndex, BITS_PER_AXIS);
+    }
+
+    // 축마다 셀이 최대 3개가 되는 가장 작은 셀 크기로 바운딩 박스를 덮어, 인덱스 범위 스캔 몇 번으로 후보를 좁힌다.
+    public static List<HashRange> coveringRanges(DistanceCalculator.BoundingBox box) {
+        double minLatitude = Math.max(-90, box.minLatitude());
+        double maxLatitude = Math.min(90, box.maxLatitude());
+        double minLongitude = Math.max(-180, box.minLongitude());
+        double maxLongitude = Math.min(180, box.maxLongitude());
+
+        for (int bits = BITS_PER_AXIS; bits > 0; bits--) {
+            long minLatitudeIndex = cellIndex(minLatitude, -90, 180, bits);
+            long maxLatitudeIndex = cellIndex(maxLatitude, -90, 180, bits);
+            long minLongitudeIndex = cellIndex(minLongitude, -180, 360, bits);
+            long maxLongitudeIndex = cellIndex(maxLongitude, -180, 360, bits);
+
+            if (maxLatitudeIndex - minLatitudeIndex >= MAX_CELLS_PER_AXIS
+                    || maxLongitudeIndex - minLongitudeIndex >= MAX_CELLS_PER_AXIS) {
+                continue;
+            }
+
+            int shift = 2 * (BITS_PER_AXIS - bits);
+            List<HashRange> ranges = new ArrayList<>();
+            for (long longitudeIndex = minLongitudeIndex; longitudeIndex <= maxLongitudeIndex; longitudeIndex++) {
+                for (long latitudeIndex = minLatitudeIndex; latitudeIndex <= maxLatitudeIndex; latitudeIndex++) {
+                    long prefix = interleave(longitudeIndex, latitudeIndex, bits);
+                    ranges.add(new HashRange(prefix << shift, ((prefix + 1) << shift) - 1));
+                }
+            }
+            return mergeAdjacent(ranges);
+        }
+
+        return List.of(new HashRange(0, (1L << (2 * BITS_PER_AXIS)) - 1));
+    }
+
+    private static long cellIndex(double value, double min, double span, int bits) {
+        long cellCount = 1L << bits;
+        long index = (long) Math.floor((value - min) / span * cellCount);
+        return Math.max(0, Math.min(cellCount - 1, index));
+    }
+
+    private static long interleave(long longitudeIndex, long latitudeIndex, int bits) {
+        long hash = 0;
+        for (int i = 0; i < bits; i++) {
+            hash |= ((longitudeIndex >> i) & 1L) << (2 * i + 1);
+            hash |= ((latitudeIndex >> i) & 1L) << (2 * i);
+        }
+        return hash;
+    }
+
+    private static List<HashRange> mergeAdjacent(List<HashRange> ranges) {
+        ranges.sort(Comparator.comparingLong(HashRange::min));
+
+        List<HashRange> merged = new ArrayList<>();
+        for (HashRange range : ranges) {
+            if (!merged.isEmpty() && merged.get(merged.size() - 1).max() + 1 >= range.min()) {
+                HashRange last = merged.remove(merged.size() - 1);
+                merged.add(new HashRange(last.min(), Math.max(last.max(), range.max())));
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+
+    public record HashRange(long min, long max) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.toktot.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+public class ImageProcessingUtil {
+
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    public static BufferedImage readImage(byte[] source) throws IOException {
+        return normalize(decode(source), readExifOrientation(source));
+    }
+
+    private static BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                // 압축률이 높은 대형 이미지가 힙을 소진하지 않도록 디코딩 전에 헤더의 해상도를 확인한다.
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException(String.format("이미지 해상도가 너무 큽니다: %dx%d",
+                            reader.getWidth(0), reader.getHeight(0)));
+                }
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static byte[] toJpeg(BufferedImage image, int maxDimension) throws IOException {
+        BufferedImage scaled = scaleDown(image, maxDimension);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return output.toByteArray();
+    }
+
+    private static BufferedImage normalize(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swapsAxes = orientation >= 5 && orientation <= 8;
+
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);
+            default -> new AffineTransform();
+        };
+
+        BufferedImage normalized = new BufferedImage(
+                swapsAxes ? height : width, swapsAxes ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = normalized.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, normalized.getWidth(), normalized.getHeight());
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return normalized;
+    }
+
+    private static BufferedImage scaleDown(BufferedImage image, int maxDimension) {
+        int longestSide = Math.max(image.getWidth(), image.getHeight());
+        if (longestSide <= maxDimension) {
+            return image;
+        }
+
+        double ratio = (double) maxDimension / longestSide;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소한다.
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= data.length && (data[offset] & 0xFF) == 0xFF) {
+            int marker = data[offset + 1] & 0xFF;
+            int length = readUnsignedShort(data, offset + 2, false);
+
+            if (marker == 0xDA) {
+                return 1;
+            }
+
+            if (marker == 0xE1 && offset + 10 <= data.length
+                    && data[offset + 4] == 'E' && data[offset + 5] == 'x'
+                    && data[offset + 6] == 'i' && data[offset + 7] == 'f') {
+                return readTiffOrientation(data, offset + 10, Math.min(data.length, offset + 2 + length));
+            }
+
+            offset += 2 + length;
+        }
+
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return 1;
+        }
+
+        boolean littleEndian = data[tiffStart] == 'I' && data[tiffStart + 1] == 'I';
+        int ifdStart = tiffStart + readInt(data, tiffStart + 4, littleEndian);
+        if (ifdStart < tiffStart || ifdStart + 2 > end) {
+            return 1;
+        }
+
+        int entryCount = readUnsignedShort(data, ifdStart, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdStart + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+
+            if (readUnsignedShort(data, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean littleEndian) {
+        int first = data[offset] & 0xFF;
+        int second = data[offset + 1] & 0xFF;
+        return littleEndian ? (second << 8) | first : (first << 8) | second;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean littleEndian) {
+        int high = readUnsignedShort(data, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readUnsignedShort(data, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,95 @@
+package com.toktot.config.database;
+
+import com.toktot.common.util.GeoHashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final Map<String, String> TRIGRAM_INDEX_DEFINITIONS = Map.of(
+            "idx_restaurants_name_trgm", "ON restaurants USING gin (lower(name) gin_trgm_ops)",
+            "idx_tooltips_menu_name_trgm", "ON tooltips USING gin (lower(menu_name) gin_trgm_ops)"
+    );
+
+    private static final int GEO_HASH_BACKFILL_BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createTrigramIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (Exception e) {
+            log.warn("pg_trgm 확장 생성 실패 - 키워드 검색 인덱스를 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+
+        TRIGRAM_INDEX_DEFINITIONS.forEach((indexName, definition) -> {
+            try {
+                // CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남고 IF NOT EXISTS가 이를 계속 건너뛰므로 지우고 다시 만든다.
+                if (isInvalidIndex(indexName)) {
+                    log.warn("INVALID 상태의 키워드 검색 인덱스를 재생성합니다 - index: {}", indexName);
+                    jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+                }
+
+                jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName + " " + definition);
+            } catch (Exception e) {
+                log.warn("키워드 검색 인덱스 생성 실패 - index: {}, error: {}", indexName, e.getMessage());
+            }
+        });
+
+        log.info("키워드 검색 trigram 인덱스 확인 완료");
+    }
+
+    private boolean isInvalidIndex(String indexName) {
+        List<Boolean> validity = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+                        "WHERE c.relname = ? AND pg_table_is_visible(c.oid)",
+                Boolean.class, indexName);
+        return !validity.isEmpty() && !validity.get(0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRestaurantGeoHashes() {
+        int updated = 0;
+
+        try {
+            while (true) {
+                List<Object[]> batch = jdbcTemplate.query(
+                        "SELECT id, latitude, longitude FROM restaurants " +
+                                "WHERE geo_hash IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL " +
+                                "ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{
+                                rs.getLong("id"),
+                                GeoHashUtil.encode(rs.getDouble("latitude"), rs.getDouble("longitude"))
+                        },
+                        GEO_HASH_BACKFILL_BATCH_SIZE);
+
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                jdbcTemplate.batchUpdate("UPDATE restaurants SET geo_hash = ? WHERE id = ?",
+                        batch.stream().map(row -> new Object[]{row[1], row[0]}).toList());
+                updated += batch.size();
+            }
+        } catch (Exception e) {
+            log.warn("가게 geo_hash 채우기 실패 - {}개 갱신 후 중단: {}", updated, e.getMessage());
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("가게 geo_hash 채우기 완료 - {}개", updated);
+        }
+    }
+}
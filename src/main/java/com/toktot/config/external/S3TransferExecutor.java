@@ -0,0 +1,86 @@
+package com.toktot.config.external;
+
+import com.toktot.common.exception.ErrorCode;
+import com.toktot.common.exception.ToktotException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class S3TransferExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public S3TransferExecutor(@Value("${toktot.s3.max-concurrent-transfers:8}") int maxConcurrentTransfers) {
+        this.permits = new Semaphore(maxConcurrentTransfers);
+    }
+
+    public <T> List<T> invokeAll(List<Callable<T>> tasks, Consumer<T> rollback) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return task.call();
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+        Throwable failure = null;
+
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                failure = failure != null ? failure : e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = failure != null ? failure : e;
+            }
+        }
+
+        if (failure == null) {
+            return results;
+        }
+
+        log.warn("S3 병렬 전송 실패 - 완료된 {}/{}건 롤백, error: {}", results.size(), tasks.size(), failure.getMessage());
+        for (T result : results) {
+            try {
+                rollback.accept(result);
+            } catch (Exception e) {
+                log.warn("S3 전송 롤백 실패 - error: {}", e.getMessage());
+            }
+        }
+
+        if (failure instanceof ToktotException toktotException) {
+            throw toktotException;
+        }
+        throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("S3 백그라운드 작업 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+}
@@ -3,7 +3,6 @@ package com.toktot.config.security;
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
 import com.toktot.domain.user.User;
-import com.toktot.domain.user.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +26,7 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final SecurityErrorResponseUtil securityErrorResponseUtil;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -37,29 +36,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         String requestURI = request.getRequestURI();
+        String jwt = extractTokenFromRequest(request);
 
         try {
-            String jwt = extractTokenFromRequest(request);
-
             if (StringUtils.hasText(jwt)) {
-                if (jwtTokenProvider.isTokenExpired(jwt)) {
-                    log.warn("JWT 토큰 만료 - uri: {}, token: {}...",
-                            requestURI, jwt.substring(0, Math.min(20, jwt.length())));
-                    securityErrorResponseUtil.writeErrorResponse(response, ErrorCode.TOKEN_EXPIRED);
-                    return;
-                }
+                JwtTokenClaims claims = jwtTokenProvider.parseToken(jwt);
 
-                if (jwtTokenProvider.validateToken(jwt) && jwtTokenProvider.isAccessToken(jwt)) {
-                    Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                    setAuthenticationFromUserId(userId, request);
-                    log.debug("JWT 인증 성공 - userId: {}, uri: {}", userId, requestURI);
-                } else {
+                if (!claims.isAccessToken()) {
                     log.warn("JWT 토큰 무효 - uri: {}, token: {}...",
                             requestURI, jwt.substring(0, Math.min(20, jwt.length())));
                     securityErrorResponseUtil.writeErrorResponse(response, ErrorCode.TOKEN_INVALID);
                     return;
                 }
+
+                setAuthenticationFromUserId(claims.userId(), request);
+                log.debug("JWT 인증 성공 - userId: {}, uri: {}", claims.userId(), requestURI);
             }
+        } catch (ToktotException e) {
+            log.warn("JWT 토큰 {} - uri: {}, token: {}...",
+                    e.getErrorCode() == ErrorCode.TOKEN_EXPIRED ? "만료" : "무효",
+                    requestURI, jwt.substring(0, Math.min(20, jwt.length())));
+            securityErrorResponseUtil.writeErrorResponse(response, e.getErrorCode());
+            return;
         } catch (Exception e) {
             log.error("JWT 인증 처리 중 오류 발생 - uri: {}, error: {}", requestURI, e.getMessage());
             securityErrorResponseUtil.writeErrorResponse(response, ErrorCode.TOKEN_INVALID);
@@ -81,19 +79,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private void setAuthenticationFromUserId(Long userId, HttpServletRequest request) {
         try {
-            User user = userRepository.findById(userId).orElse(null);
+            UserPrincipalSnapshot principal = userPrincipalCache.findPrincipal(userId).orElse(null);
 
-            if (user == null) {
+            if (principal == null) {
                 log.warn("JWT 토큰의 사용자가 존재하지 않음 - userId: {}", userId);
                 return;
             }
 
-            if (user.isDeleted()) {
+            if (principal.isDeleted()) {
                 log.warn("탈퇴한 회원입니다. - userId: {}", userId);
                 return;
             }
 
-            if (!user.isEnabled() || !user.isAccountNonLocked()) {
+            if (!principal.isEnabled() || !principal.isAccountNonLocked()) {
                 log.warn("비활성화되거나 잠긴 계정 - userId: {}", userId);
                 return;
             }
@@ -102,6 +100,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     new SimpleGrantedAuthority("ROLE_USER")
             );
 
+            // 요청마다 새 User 인스턴스를 만들어 캐시된 값이 요청 스레드 간에 공유되거나 변경되지 않도록 한다.
+            User user = principal.toUser();
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(user, null, authorities);
 
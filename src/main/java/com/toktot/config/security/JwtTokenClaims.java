@@ -0,0 +1,23 @@
+package com.toktot.config.security;
+
+import java.util.Date;
+
+public record JwtTokenClaims(
+        Long userId,
+        String email,
+        String tokenType,
+        Date expiration
+) {
+
+    public boolean isAccessToken() {
+        return JwtTokenProvider.TOKEN_TYPE_ACCESS.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.TOKEN_TYPE_REFRESH.equals(tokenType);
+    }
+
+    public long getExpirationTimeInSeconds() {
+        return (expiration.getTime() - System.currentTimeMillis()) / 1000;
+    }
+}
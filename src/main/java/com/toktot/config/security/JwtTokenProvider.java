@@ -17,12 +17,13 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
-    private static final String TOKEN_TYPE_ACCESS = "access";
-    private static final String TOKEN_TYPE_REFRESH = "refresh";
+    static final String TOKEN_TYPE_ACCESS = "access";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
     private static final String CLAIM_EMAIL = "email";
     private static final String CLAIM_TYPE = "type";
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
@@ -30,6 +31,9 @@ public class JwtTokenProvider {
                             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
                             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
         this.accessTokenExpirationMs = accessTokenExpiration;
         this.refreshTokenExpirationMs = refreshTokenExpiration;
 
@@ -64,34 +68,23 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    public JwtTokenClaims parseToken(String token) {
         if (!StringUtils.hasText(token)) {
-            return false;
+            throw new ToktotException(ErrorCode.TOKEN_INVALID);
         }
 
+        Claims claims = getClaims(token);
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException e) {
-            log.warn("JWT 서명이 유효하지 않습니다: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.warn("JWT 형식이 올바르지 않습니다: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT가 만료되었습니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT입니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("JWT claims가 비어있습니다: {}", e.getMessage());
+            return new JwtTokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get(CLAIM_EMAIL, String.class),
+                    claims.get(CLAIM_TYPE, String.class),
+                    claims.getExpiration()
+            );
+        } catch (NumberFormatException | RequiredTypeException e) {
+            throw new ToktotException(ErrorCode.TOKEN_INVALID);
         }
-        return false;
-    }
-
-    public Long getUserIdFromToken(String token) {
-        Claims claims = getClaims(token);
-        return Long.parseLong(claims.getSubject());
     }
 
     public String getEmailFromToken(String token) {
@@ -99,50 +92,14 @@ public class JwtTokenProvider {
         return claims.get(CLAIM_EMAIL, String.class);
     }
 
-    public String getTokenType(String token) {
-        Claims claims = getClaims(token);
-        return claims.get(CLAIM_TYPE, String.class);
-    }
-
-    public boolean isAccessToken(String token) {
-        return TOKEN_TYPE_ACCESS.equals(getTokenType(token));
-    }
-
-    public boolean isRefreshToken(String token) {
-        return TOKEN_TYPE_REFRESH.equals(getTokenType(token));
-    }
-
-    public Date getExpirationFromToken(String token) {
-        Claims claims = getClaims(token);
-        return claims.getExpiration();
-    }
-
-    public boolean isTokenExpired(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return false;
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     public long getExpirationTimeInSeconds(String token) {
-        Date expiration = getExpirationFromToken(token);
+        Date expiration = getClaims(token).getExpiration();
         return (expiration.getTime() - System.currentTimeMillis()) / 1000;
     }
 
     private Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new ToktotException(ErrorCode.TOKEN_EXPIRED);
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
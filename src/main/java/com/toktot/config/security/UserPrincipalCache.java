@@ -0,0 +1,73 @@
+package com.toktot.config.security;
+
+import com.toktot.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private static final Duration PRINCIPAL_CACHE_TTL = Duration.ofMinutes(5);
+    private static final int MAX_CACHE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, CachedPrincipal> principalCache = new ConcurrentHashMap<>();
+
+    public Optional<UserPrincipalSnapshot> findPrincipal(Long userId) {
+        CachedPrincipal cached = principalCache.get(userId);
+        if (cached != null && cached.isValid()) {
+            return Optional.of(cached.principal());
+        }
+
+        Optional<UserPrincipalSnapshot> principal = userRepository.findById(userId).map(UserPrincipalSnapshot::from);
+        principal.ifPresent(loaded -> put(userId, loaded));
+        return principal;
+    }
+
+    public void evict(Long userId) {
+        principalCache.remove(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principalCache.remove(userId);
+                }
+            });
+        }
+
+        log.debug("인증 사용자 캐시 삭제 - userId: {}", userId);
+    }
+
+    private void put(Long userId, UserPrincipalSnapshot principal) {
+        if (principalCache.size() >= MAX_CACHE_SIZE) {
+            principalCache.values().removeIf(cached -> !cached.isValid());
+
+            if (principalCache.size() >= MAX_CACHE_SIZE) {
+                log.warn("인증 사용자 캐시 용량 초과 - 캐시를 비웁니다. size: {}", principalCache.size());
+                principalCache.clear();
+            }
+        }
+
+        principalCache.put(userId, new CachedPrincipal(principal, LocalDateTime.now().plus(PRINCIPAL_CACHE_TTL)));
+    }
+
+    private record CachedPrincipal(UserPrincipalSnapshot principal, LocalDateTime expiresAt) {
+
+        private boolean isValid() {
+            return LocalDateTime.now().isBefore(expiresAt);
+        }
+    }
+}
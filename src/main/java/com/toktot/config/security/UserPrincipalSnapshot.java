@@ -0,0 +1,64 @@
+package com.toktot.config.security;
+
+import com.toktot.domain.user.User;
+import com.toktot.domain.user.UserProfile;
+import com.toktot.domain.user.type.AccountStatus;
+import com.toktot.domain.user.type.AuthProvider;
+
+import java.time.LocalDateTime;
+
+public record UserPrincipalSnapshot(
+        Long id,
+        String email,
+        String oauthId,
+        AuthProvider authProvider,
+        String nickname,
+        String profileImageUrl,
+        LocalDateTime createdAt,
+        LocalDateTime deletedAt,
+        AccountStatus accountStatus,
+        LocalDateTime lockedUntil
+) {
+
+    public static UserPrincipalSnapshot from(User user) {
+        UserProfile profile = user.getUserProfile();
+
+        return new UserPrincipalSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getOauthId(),
+                user.getAuthProvider(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getCreatedAt(),
+                user.getDeletedAt(),
+                profile != null ? profile.getAccountStatus() : AccountStatus.ACTIVE,
+                profile != null ? profile.getLockedUntil() : null
+        );
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    public boolean isEnabled() {
+        return AccountStatus.ACTIVE.equals(accountStatus);
+    }
+
+    public boolean isAccountNonLocked() {
+        return lockedUntil == null || !lockedUntil.isAfter(LocalDateTime.now());
+    }
+
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .oauthId(oauthId)
+                .authProvider(authProvider)
+                .nickname(nickname)
+                .profileImageUrl(profileImageUrl)
+                .createdAt(createdAt)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.toktot.domain.review.dto.response.search.ReviewListResponse;
 import com.toktot.domain.review.service.ReviewSearchService;
 import com.toktot.domain.user.User;
 import com.toktot.web.dto.ApiResponse;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.domain.folder.dto.request.FolderCreateRequest;
 import com.toktot.domain.folder.dto.request.FolderUpdateRequest;
 import com.toktot.domain.folder.dto.request.FolderReviewCreateRequest;
@@ -166,4 +167,28 @@ public class FolderController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/reviews/{folderId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewListResponse>>> getSavedReviewsByCursor(
+            @PathVariable Long folderId,
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.atInfo()
+                .setMessage("저장한 리뷰 커서 조회 요청")
+                .addKeyValue("userId", user.getId())
+                .addKeyValue("folderId", folderId)
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        CursorPageResponse<ReviewListResponse> response = reviewSearchService.getSavedReviewsByCursor(
+                user.getId(),
+                folderId,
+                cursor,
+                size
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
 }
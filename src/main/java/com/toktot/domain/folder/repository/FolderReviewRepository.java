@@ -1,18 +1,29 @@
 package com.toktot.domain.folder.repository;
 
 import com.toktot.domain.folder.FolderReview;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface FolderReviewRepository extends JpaRepository<FolderReview, Long> {
 
-    @Query("SELECT fr.review.id FROM FolderReview fr GROUP BY fr.review.id ORDER BY COUNT(fr.review.id) DESC")
-    List<Long> findPopularReviewIds(Pageable pageable);
+    @Query(value = """
+        SELECT fr.review_id,
+               CAST(SUM(POWER(2.0, EXTRACT(EPOCH FROM (fr.created_at - :epoch)) / :halfLifeSeconds)) AS double precision) AS score
+        FROM folder_reviews fr
+        JOIN reviews r ON r.id = fr.review_id
+        WHERE r.is_hidden = false
+        GROUP BY fr.review_id
+        ORDER BY score DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findDecayedBookmarkScores(@Param("epoch") LocalDateTime epoch,
+                                             @Param("halfLifeSeconds") long halfLifeSeconds,
+                                             @Param("limit") int limit);
 
     @Query("""
     SELECT fr.review.id 
@@ -8,6 +8,7 @@ import com.toktot.domain.folder.repository.FolderRepository;
 import com.toktot.domain.folder.repository.FolderReviewRepository;
 import com.toktot.domain.review.Review;
 import com.toktot.domain.review.repository.ReviewRepository;
+import com.toktot.domain.review.service.PopularReviewRankingService;
 import com.toktot.domain.user.User;
 import com.toktot.domain.folder.dto.response.FolderResponse;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,6 +29,7 @@ public class FolderService {
     private final ReviewRepository reviewRepository;
     private final FolderRepository folderRepository;
     private final FolderReviewRepository folderReviewRepository;
+    private final PopularReviewRankingService popularReviewRankingService;
 
     @Lazy
     private final FolderDefaultService folderDefaultService;
@@ -79,6 +82,7 @@ public class FolderService {
             throw new ToktotException(ErrorCode.DEFAULT_FOLDER_CANNOT_DELETE);
         }
 
+        recordBookmarksRemoved(folder.getFolderReviews());
         folderRepository.delete(folder);
         log.info("폴더 삭제 완료 - folderId: {}, userId: {}", folderId, user.getId());
     }
@@ -86,6 +90,9 @@ public class FolderService {
     @Transactional
     public void deleteByUserId(Long userId) {
         List<Folder> folders = folderRepository.findAllByUserId(userId);
+        recordBookmarksRemoved(folders.stream()
+                .flatMap(folder -> folder.getFolderReviews().stream())
+                .toList());
         folderRepository.deleteAll(folders);
     }
 
@@ -109,6 +116,7 @@ public class FolderService {
         }
 
         folderReviewRepository.delete(folderReview);
+        recordBookmarksRemoved(List.of(folderReview));
         log.info("폴더에 저장된 리뷰 삭제 완료 - folderId: {}, reviewId: {}, userId: {}",
                 folderId, reviewId, user.getId());
     }
@@ -133,8 +141,16 @@ public class FolderService {
             return;
         }
 
-        folderReviewRepository.save(FolderReview.create(folder, review));
+        FolderReview folderReview = folderReviewRepository.save(FolderReview.create(folder, review));
+        reviewRepository.adjustBookmarkCount(review.getId(), 1);
+        popularReviewRankingService.recordBookmarkAdded(folderReview);
         log.debug("리뷰 저장 완료 - folderId: {}, reviewId: {}", folderId, review.getId());
     }
 
+    private void recordBookmarksRemoved(List<FolderReview> folderReviews) {
+        folderReviews.stream()
+                .collect(Collectors.groupingBy(folderReview -> folderReview.getReview().getId(), Collectors.counting()))
+                .forEach((reviewId, count) -> reviewRepository.adjustBookmarkCount(reviewId, -count.intValue()));
+        popularReviewRankingService.recordBookmarksRemoved(folderReviews);
+    }
 }
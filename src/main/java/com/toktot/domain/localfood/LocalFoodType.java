@@ -3,9 +3,9 @@ package com.toktot.domain.localfood;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Getter
 @AllArgsConstructor
@@ -90,6 +90,12 @@ public enum LocalFoodType {
 
     ;
 
+    private static final Pattern NON_WORD_PATTERN = Pattern.compile("[^가-힣a-z0-9]");
+
+    private static final Map<LocalFoodType, List<String>> NORMALIZED_KEYWORDS = normalizeAllKeywords();
+
+    private static final int CLASSIFICATION_VERSION = calculateClassificationVersion();
+
     private final String displayName;
     private final String iconName;
     private final List<String> keywords;
@@ -102,18 +108,40 @@ public enum LocalFoodType {
         String normalizedMenuName = normalizeMenuName(menuName);
 
         return Arrays.stream(values())
-                .filter(type -> type.keywords.stream()
-                        .map(LocalFoodType::normalizeMenuName)
+                .filter(type -> NORMALIZED_KEYWORDS.get(type).stream()
                         .anyMatch(normalizedMenuName::contains))
                 .findFirst();
     }
 
+    public static int classificationVersion() {
+        return CLASSIFICATION_VERSION;
+    }
+
     private static String normalizeMenuName(String menuName) {
-        return menuName.toLowerCase()
-                .replaceAll("[^가-힣a-z0-9]", "")
+        return NON_WORD_PATTERN.matcher(menuName.toLowerCase())
+                .replaceAll("")
                 .trim();
     }
 
+    private static Map<LocalFoodType, List<String>> normalizeAllKeywords() {
+        Map<LocalFoodType, List<String>> normalized = new EnumMap<>(LocalFoodType.class);
+        for (LocalFoodType type : values()) {
+            normalized.put(type, type.keywords.stream()
+                    .map(LocalFoodType::normalizeMenuName)
+                    .filter(keyword -> !keyword.isEmpty())
+                    .distinct()
+                    .toList());
+        }
+        return normalized;
+    }
+
+    private static int calculateClassificationVersion() {
+        return Arrays.stream(values())
+                .map(type -> type.name() + "=" + String.join(",", type.keywords))
+                .collect(Collectors.joining(";"))
+                .hashCode();
+    }
+
     public List<String> getKeywords() {
         return List.copyOf(keywords);
     }
@@ -0,0 +1,47 @@
+package com.toktot.domain.localfood.service;
+
+import com.toktot.domain.localfood.LocalFoodType;
+import com.toktot.domain.restaurant.RestaurantMenu;
+import com.toktot.domain.restaurant.repository.RestaurantMenuRepository;
+import com.toktot.domain.review.Tooltip;
+import com.toktot.domain.review.repository.TooltipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocalFoodClassificationService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final TooltipRepository tooltipRepository;
+    private final RestaurantMenuRepository restaurantMenuRepository;
+
+    @Transactional
+    public int classifyNextTooltipChunk() {
+        List<Tooltip> tooltips = tooltipRepository.findUnclassifiedLocalFood(
+                LocalFoodType.classificationVersion(), PageRequest.of(0, CHUNK_SIZE));
+
+        tooltips.forEach(Tooltip::classifyLocalFood);
+
+        log.debug("툴팁 향토음식 분류 - 처리 수: {}", tooltips.size());
+        return tooltips.size();
+    }
+
+    @Transactional
+    public int classifyNextMenuChunk() {
+        List<RestaurantMenu> menus = restaurantMenuRepository.findUnclassifiedLocalFood(
+                LocalFoodType.classificationVersion(), PageRequest.of(0, CHUNK_SIZE));
+
+        menus.forEach(RestaurantMenu::classifyLocalFood);
+
+        log.debug("메뉴 향토음식 분류 - 처리 수: {}", menus.size());
+        return menus.size();
+    }
+}
@@ -1,7 +1,6 @@
 package com.toktot.domain.localfood.service;
 
 import com.toktot.domain.localfood.LocalFoodType;
-import com.toktot.domain.review.Tooltip;
 import com.toktot.domain.review.repository.TooltipRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +8,6 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -40,32 +38,8 @@ public class LocalFoodDetectionService {
         return detectFromMenuName(menuName).isPresent();
     }
 
-    public List<Tooltip> findTooltipsByTypeAndPrice(LocalFoodType localFoodType,
-                                                    Integer minPrice, Integer maxPrice) {
-        List<Tooltip> tooltipsInPriceRange = tooltipRepository.findFoodTooltipsByPriceRange(minPrice, maxPrice);
-
-        return tooltipsInPriceRange.stream()
-                .filter(tooltip -> {
-                    String menuName = tooltip.getMenuName();
-                    return menuName != null &&
-                            detectFromMenuName(menuName)
-                                    .map(type -> type.equals(localFoodType))
-                                    .orElse(false);
-                })
-                .collect(Collectors.toList());
-    }
-
-    public List<Tooltip> findTooltipsByType(LocalFoodType localFoodType) {
-        List<Tooltip> allTooltips = tooltipRepository.findAllFoodTooltipsWithPriceData();
-
-        return allTooltips.stream()
-                .filter(tooltip -> {
-                    String menuName = tooltip.getMenuName();
-                    return menuName != null &&
-                            detectFromMenuName(menuName)
-                                    .map(type -> type.equals(localFoodType))
-                                    .orElse(false);
-                })
-                .collect(Collectors.toList());
+    public List<Long> findRestaurantIdsByTypeAndPrice(LocalFoodType localFoodType,
+                                                      Integer minPrice, Integer maxPrice) {
+        return tooltipRepository.findRestaurantIdsByLocalFoodTypeAndPriceRange(localFoodType, minPrice, maxPrice);
     }
 }
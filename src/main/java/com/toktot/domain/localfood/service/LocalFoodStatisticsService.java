@@ -1,25 +1,35 @@
 package com.toktot.domain.localfood.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toktot.domain.localfood.LocalFoodType;
 import com.toktot.domain.localfood.dto.LocalFoodStatsResponse;
 import com.toktot.domain.localfood.dto.PriceRangeRequest;
 import com.toktot.domain.restaurant.dto.response.PriceRangeRestaurantResponse;
 import com.toktot.domain.restaurant.repository.RestaurantPriceRangeRepository;
+import com.toktot.domain.review.Review;
+import com.toktot.domain.review.ReviewImage;
 import com.toktot.domain.review.Tooltip;
+import com.toktot.domain.statistics.LocalFoodPriceCount;
+import com.toktot.domain.statistics.LocalFoodStatistics;
+import com.toktot.domain.statistics.repository.LocalFoodPriceCountRepository;
+import com.toktot.domain.statistics.repository.LocalFoodStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.text.NumberFormat;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -27,59 +37,123 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class LocalFoodStatisticsService {
 
-    private final LocalFoodDetectionService detectionService;
     private final RestaurantPriceRangeRepository restaurantPriceRangeRepository;
+    private final LocalFoodStatisticsRepository localFoodStatisticsRepository;
+    private final LocalFoodPriceCountRepository localFoodPriceCountRepository;
+    private final ObjectMapper objectMapper;
 
     private static final int MIN_REVIEW_COUNT = 5;
     private static final int PRICE_RANGE_COUNT = 8;
+    private static final Duration STATS_CACHE_TTL = Duration.ofMinutes(1);
+
+    private final Map<LocalFoodType, CachedStats> statsCache = new ConcurrentHashMap<>();
+    private final Set<LocalFoodType> dirtyFoodTypes = ConcurrentHashMap.newKeySet();
 
     public LocalFoodStatsResponse calculatePriceStats(LocalFoodType localFoodType) {
-        log.info("향토음식 통계 계산 시작 - 타입: {}", localFoodType.getDisplayName());
+        CachedStats cached = statsCache.get(localFoodType);
+        if (cached != null && cached.isValid()) {
+            return cached.response();
+        }
 
-        List<Tooltip> tooltips = detectionService.findTooltipsByType(localFoodType);
+        LocalFoodStatsResponse response = localFoodStatisticsRepository.findById(localFoodType)
+                .map(this::toStatsResponse)
+                .orElseGet(() -> createInsufficientDataResponse(localFoodType));
 
-        if (tooltips.size() < MIN_REVIEW_COUNT) {
-            log.warn("리뷰 데이터 부족 - 타입: {}, 개수: {}", localFoodType.getDisplayName(), tooltips.size());
-            return createInsufficientDataResponse(localFoodType);
+        statsCache.put(localFoodType, new CachedStats(response, LocalDateTime.now().plus(STATS_CACHE_TTL)));
+        return response;
+    }
+
+    @Transactional
+    public void applyReviewCreated(Review review) {
+        Map<LocalFoodType, Map<Integer, Integer>> priceDeltas = new EnumMap<>(LocalFoodType.class);
+
+        for (ReviewImage image : review.getImages()) {
+            for (Tooltip tooltip : image.getTooltips()) {
+                Integer pricePerServing = calculatePricePerServing(tooltip);
+                if (tooltip.isFood() && tooltip.getLocalFoodType() != null && pricePerServing != null) {
+                    priceDeltas.computeIfAbsent(tooltip.getLocalFoodType(), type -> new TreeMap<>())
+                            .merge(pricePerServing, 1, Integer::sum);
+                }
+            }
         }
 
-        List<Integer> pricesPerServing = tooltips.stream()
-                .map(this::calculatePricePerServing)
-                .filter(Objects::nonNull)
-                .sorted()
-                .collect(Collectors.toList());
+        if (priceDeltas.isEmpty()) {
+            return;
+        }
 
-        if (pricesPerServing.size() < MIN_REVIEW_COUNT) {
-            log.warn("유효 가격 데이터 부족 - 타입: {}, 개수: {}",
-                    localFoodType.getDisplayName(), pricesPerServing.size());
-            return createInsufficientDataResponse(localFoodType);
+        // 리뷰 작성 경로에서는 가격 집계 행만 원자적으로 증가시키고, 요약 통계는 스케줄러가 잠금을 잡고 다시 계산한다.
+        priceDeltas.forEach((localFoodType, deltas) -> {
+            String foodType = localFoodType.name();
+            deltas.forEach((price, delta) -> localFoodPriceCountRepository.incrementCount(foodType, price, delta));
+
+            log.debug("향토음식 가격 집계 반영 - 타입: {}, reviewId: {}", localFoodType.getDisplayName(), review.getId());
+        });
+
+        markDirtyAfterCommit(priceDeltas.keySet());
+    }
+
+    @Transactional
+    public int refreshDirtyStatistics() {
+        List<LocalFoodType> refreshTargets = new ArrayList<>(dirtyFoodTypes);
+        refreshTargets.forEach(dirtyFoodTypes::remove);
+        restoreDirtyOnRollback(refreshTargets);
+
+        for (LocalFoodType localFoodType : refreshTargets) {
+            String foodType = localFoodType.name();
+            localFoodStatisticsRepository.insertIfAbsent(foodType);
+            localFoodStatisticsRepository.lockByFoodType(foodType);
+            refreshStatistics(localFoodType, false);
         }
 
-        int averagePrice = calculateAverage(pricesPerServing);
-        int minPrice = pricesPerServing.get(0);
-        int maxPrice = pricesPerServing.get(pricesPerServing.size() - 1);
+        if (!refreshTargets.isEmpty()) {
+            log.debug("향토음식 통계 갱신 완료 - 타입 수: {}", refreshTargets.size());
+        }
+        return refreshTargets.size();
+    }
 
-        LocalFoodStatsResponse.PriceDistribution distribution =
-                calculatePriceDistribution(pricesPerServing, averagePrice);
+    private void restoreDirtyOnRollback(List<LocalFoodType> refreshTargets) {
+        if (refreshTargets.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
 
-        List<LocalFoodStatsResponse.PriceRangeData> rangeData =
-                generatePriceRanges(pricesPerServing, minPrice, maxPrice);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    dirtyFoodTypes.addAll(refreshTargets);
+                }
+            }
+        });
+    }
 
-        log.info("향토음식 통계 계산 완료 - 타입: {}, 리뷰: {}개, 평균가격: {}원",
-                localFoodType.getDisplayName(), tooltips.size(), averagePrice);
+    private void markDirtyAfterCommit(Set<LocalFoodType> localFoodTypes) {
+        Set<LocalFoodType> changed = EnumSet.copyOf(localFoodTypes);
 
-        return LocalFoodStatsResponse.builder()
-                .localFoodType(localFoodType)
-                .displayName(localFoodType.getDisplayName())
-                .totalReviewCount(tooltips.size())
-                .averagePrice(averagePrice)
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
-                .priceDistribution(distribution)
-                .priceRanges(rangeData)
-                .lastUpdated(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                .hasSufficientData(true)
-                .build();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyFoodTypes.addAll(changed);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyFoodTypes.addAll(changed);
+            }
+        });
+    }
+
+    @Transactional
+    public int rebuildAllStatistics() {
+        localFoodPriceCountRepository.deleteAllCounts();
+        int countRows = localFoodPriceCountRepository.rebuildCountsFromTooltips();
+
+        for (LocalFoodType localFoodType : LocalFoodType.values()) {
+            localFoodStatisticsRepository.insertIfAbsent(localFoodType.name());
+            refreshStatistics(localFoodType, true);
+        }
+
+        log.info("향토음식 통계 재계산 완료 - 가격 집계 행 수: {}", countRows);
+        return LocalFoodType.values().length;
     }
 
     public Page<PriceRangeRestaurantResponse> getRestaurantsByPriceRange(
@@ -106,6 +180,69 @@ public class LocalFoodStatisticsService {
         );
     }
 
+    private void refreshStatistics(LocalFoodType localFoodType, boolean recountRestaurants) {
+        NavigableMap<Integer, Integer> priceCounts = new TreeMap<>();
+        for (LocalFoodPriceCount count : localFoodPriceCountRepository.findAllByFoodType(localFoodType)) {
+            if (count.getTooltipCount() > 0) {
+                priceCounts.put(count.getPricePerServing(), count.getTooltipCount());
+            }
+        }
+
+        int totalCount = priceCounts.values().stream().mapToInt(Integer::intValue).sum();
+        int averagePrice = calculateAverage(priceCounts, totalCount);
+        int minPrice = priceCounts.isEmpty() ? 0 : priceCounts.firstKey();
+        int maxPrice = priceCounts.isEmpty() ? 0 : priceCounts.lastKey();
+
+        LocalFoodStatsResponse.PriceDistribution distribution =
+                calculatePriceDistribution(priceCounts, totalCount, averagePrice);
+        List<LocalFoodStatsResponse.PriceRangeData> priceRanges =
+                generatePriceRanges(priceCounts, minPrice, maxPrice);
+
+        localFoodStatisticsRepository.updateStatistics(
+                localFoodType.name(),
+                totalCount,
+                recountRestaurants
+                        ? (int) localFoodStatisticsRepository.countRestaurantsByFoodType(localFoodType.name())
+                        : null,
+                averagePrice,
+                minPrice,
+                maxPrice,
+                distribution.cheapCount(),
+                distribution.normalCount(),
+                distribution.expensiveCount(),
+                writePriceRanges(priceRanges)
+        );
+
+        statsCache.remove(localFoodType);
+    }
+
+    private LocalFoodStatsResponse toStatsResponse(LocalFoodStatistics statistics) {
+        LocalFoodType localFoodType = statistics.getFoodType();
+        int totalCount = statistics.getReviewCount();
+
+        if (totalCount < MIN_REVIEW_COUNT) {
+            log.debug("리뷰 데이터 부족 - 타입: {}, 개수: {}", localFoodType.getDisplayName(), totalCount);
+            return createInsufficientDataResponse(localFoodType);
+        }
+
+        LocalDateTime lastCalculatedAt = statistics.getLastCalculatedAt() != null
+                ? statistics.getLastCalculatedAt() : statistics.getUpdatedAt();
+
+        return LocalFoodStatsResponse.builder()
+                .localFoodType(localFoodType)
+                .displayName(localFoodType.getDisplayName())
+                .totalReviewCount(totalCount)
+                .averagePrice(statistics.getAveragePrice())
+                .minPrice(statistics.getMinPrice())
+                .maxPrice(statistics.getMaxPrice())
+                .priceDistribution(buildPriceDistribution(
+                        statistics.getCheapCount(), statistics.getFairCount(), statistics.getExpensiveCount(), totalCount))
+                .priceRanges(readPriceRanges(statistics.getPriceRanges()))
+                .lastUpdated(lastCalculatedAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .hasSufficientData(true)
+                .build();
+    }
+
     private LocalFoodStatsResponse createInsufficientDataResponse(LocalFoodType localFoodType) {
         return LocalFoodStatsResponse.builder()
                 .localFoodType(localFoodType)
@@ -132,34 +269,34 @@ public class LocalFoodStatisticsService {
         return totalPrice / servingSize;
     }
 
-    private int calculateAverage(List<Integer> prices) {
-        return (int) prices.stream()
-                .mapToInt(Integer::intValue)
-                .average()
-                .orElse(0);
+    private int calculateAverage(NavigableMap<Integer, Integer> priceCounts, int totalCount) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long priceSum = 0;
+        for (Map.Entry<Integer, Integer> entry : priceCounts.entrySet()) {
+            priceSum += (long) entry.getKey() * entry.getValue();
+        }
+
+        return (int) ((double) priceSum / totalCount);
     }
 
     private LocalFoodStatsResponse.PriceDistribution calculatePriceDistribution(
-            List<Integer> prices, int averagePrice) {
+            NavigableMap<Integer, Integer> priceCounts, int totalCount, int averagePrice) {
 
         int cheapThreshold = (int) (averagePrice * 0.8);
         int expensiveThreshold = (int) (averagePrice * 1.2);
 
-        int cheapCount = 0;
-        int normalCount = 0;
-        int expensiveCount = 0;
-
-        for (int price : prices) {
-            if (price <= cheapThreshold) {
-                cheapCount++;
-            } else if (price <= expensiveThreshold) {
-                normalCount++;
-            } else {
-                expensiveCount++;
-            }
-        }
+        int cheapCount = sumCounts(priceCounts.headMap(cheapThreshold, true));
+        int normalCount = sumCounts(priceCounts.subMap(cheapThreshold, false, expensiveThreshold, true));
+        int expensiveCount = totalCount - cheapCount - normalCount;
+
+        return buildPriceDistribution(cheapCount, normalCount, expensiveCount, totalCount);
+    }
 
-        int totalCount = prices.size();
+    private LocalFoodStatsResponse.PriceDistribution buildPriceDistribution(
+            int cheapCount, int normalCount, int expensiveCount, int totalCount) {
 
         return LocalFoodStatsResponse.PriceDistribution.builder()
                 .cheapCount(cheapCount)
@@ -172,9 +309,9 @@ public class LocalFoodStatisticsService {
     }
 
     private List<LocalFoodStatsResponse.PriceRangeData> generatePriceRanges(
-            List<Integer> prices, int minPrice, int maxPrice) {
+            NavigableMap<Integer, Integer> priceCounts, int minPrice, int maxPrice) {
 
-        if (prices.isEmpty()) {
+        if (priceCounts.isEmpty()) {
             return List.of();
         }
 
@@ -186,15 +323,15 @@ public class LocalFoodStatisticsService {
             int rangeMax = (i == PRICE_RANGE_COUNT - 1) ?
                     maxPrice : rangeMin + priceGap - 1;
 
-            long reviewCount = prices.stream()
-                    .filter(price -> price >= rangeMin && price <= rangeMax)
-                    .count();
+            int reviewCount = rangeMin <= rangeMax
+                    ? sumCounts(priceCounts.subMap(rangeMin, true, rangeMax, true))
+                    : 0;
 
             if (reviewCount > 0 || i < 3) {
                 ranges.add(LocalFoodStatsResponse.PriceRangeData.builder()
                         .minPrice(rangeMin)
                         .maxPrice(rangeMax)
-                        .reviewCount((int) reviewCount)
+                        .reviewCount(reviewCount)
                         .label(formatPriceRangeLabel(rangeMin, rangeMax))
                         .build());
             }
@@ -203,6 +340,33 @@ public class LocalFoodStatisticsService {
         return ranges;
     }
 
+    private int sumCounts(Map<Integer, Integer> priceCounts) {
+        return priceCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private String writePriceRanges(List<LocalFoodStatsResponse.PriceRangeData> priceRanges) {
+        try {
+            return objectMapper.writeValueAsString(priceRanges);
+        } catch (JsonProcessingException e) {
+            log.error("향토음식 가격대 직렬화 실패", e);
+            return "[]";
+        }
+    }
+
+    private List<LocalFoodStatsResponse.PriceRangeData> readPriceRanges(String priceRanges) {
+        if (priceRanges == null || priceRanges.isBlank()) {
+            return List.of();
+        }
+
+        try {
+            return objectMapper.readValue(priceRanges,
+                    new TypeReference<List<LocalFoodStatsResponse.PriceRangeData>>() {});
+        } catch (JsonProcessingException e) {
+            log.error("향토음식 가격대 역직렬화 실패", e);
+            return List.of();
+        }
+    }
+
     private String formatPriceRangeLabel(int minPrice, int maxPrice) {
         NumberFormat formatter = NumberFormat.getInstance();
 
@@ -212,4 +376,11 @@ public class LocalFoodStatisticsService {
 
         return formatter.format(minPrice) + "~" + formatter.format(maxPrice) + "원";
     }
+
+    private record CachedStats(LocalFoodStatsResponse response, LocalDateTime expiresAt) {
+
+        boolean isValid() {
+            return LocalDateTime.now().isBefore(expiresAt);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.toktot.domain.restaurant;
 
+import com.toktot.common.util.GeoHashUtil;
 import com.toktot.domain.restaurant.type.DataSource;
 import com.toktot.external.kakao.dto.response.KakaoPlaceInfo;
 import jakarta.persistence.*;
@@ -13,7 +14,10 @@ import java.util.Objects;
 
 @Builder
 @Entity
-@Table(name = "restaurants")
+@Table(name = "restaurants", indexes = {
+        @Index(name = "idx_restaurants_geo_hash", columnList = "geo_hash"),
+        @Index(name = "idx_restaurants_external_kakao_id", columnList = "external_kakao_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -48,6 +52,9 @@ public class Restaurant {
     @Column(precision = 11, scale = 8, nullable = false)
     private BigDecimal longitude;
 
+    @Column(name = "geo_hash")
+    private Long geoHash;
+
     @Setter
     @Column(length = 20)
     private String phone;
@@ -132,6 +139,14 @@ public class Restaurant {
         this.popularMenus = menuInfo;
     }
 
+    @PrePersist
+    @PreUpdate
+    private void updateGeoHash() {
+        this.geoHash = latitude != null && longitude != null
+                ? GeoHashUtil.encode(latitude.doubleValue(), longitude.doubleValue())
+                : null;
+    }
+
     public boolean hasRequiredFields() {
         return this.name != null &&
                !this.name.trim().isEmpty() &&
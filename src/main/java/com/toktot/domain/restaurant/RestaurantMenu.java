@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_restaurant_menu_active", columnList = "restaurant_id, is_active"),
         @Index(name = "idx_local_food_type", columnList = "local_food_type, is_active")
 })
+@EntityListeners(RestaurantMenuChangeListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -50,6 +51,9 @@ public class RestaurantMenu {
     @Column(length = 50)
     private LocalFoodType localFoodType;
 
+    @Column(name = "local_food_version")
+    private Integer localFoodVersion;
+
     @Builder.Default
     @Column(nullable = false)
     private Boolean isMain = false;
@@ -69,8 +73,19 @@ public class RestaurantMenu {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    public void classifyLocalFood() {
+        this.localFoodType = LocalFoodType.findByMenuName(menuName).orElse(null);
+        this.isLocalFood = localFoodType != null;
+        this.localFoodVersion = LocalFoodType.classificationVersion();
+    }
+
     @PrePersist
     @PreUpdate
+    private void prepareForSave() {
+        calculatePricePerServing();
+        classifyLocalFood();
+    }
+
     private void calculatePricePerServing() {
         if (price == null || servingSize == null || servingSize <= 0) {
             this.pricePerServing = null;
@@ -0,0 +1,23 @@
+package com.toktot.domain.restaurant;
+
+import com.toktot.domain.restaurant.service.MenuPriceDistributionService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RestaurantMenuChangeListener {
+
+    private final ObjectProvider<MenuPriceDistributionService> menuPriceDistributionService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMenuChanged(RestaurantMenu restaurantMenu) {
+        menuPriceDistributionService.getObject().markDirtyAfterCommit();
+    }
+}
@@ -9,6 +9,7 @@ import com.toktot.domain.review.service.ReviewSearchService;
 import com.toktot.domain.search.type.SortType;
 import com.toktot.domain.user.User;
 import com.toktot.web.dto.ApiResponse;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.domain.restaurant.dto.response.RestaurantDetailResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -78,6 +79,36 @@ public class RestaurantDetailController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/reviews/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<RestaurantDetailReviewResponse>>> getRestaurantReviewsByCursor(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) Long reviewId,
+            @RequestParam(required = false) SortType sort,
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.atInfo()
+                .setMessage("가게 상세 페이지 리뷰 커서 조회 요청")
+                .addKeyValue("restaurantId", restaurantId)
+                .addKeyValue("reviewId", reviewId)
+                .addKeyValue("sortType", sort)
+                .addKeyValue("cursor", cursor)
+                .addKeyValue("userId", user != null ? user.getId() : null)
+                .log();
+
+        CursorPageResponse<RestaurantDetailReviewResponse> response = reviewSearchService.getRestaurantReviewsByCursor(
+                restaurantId,
+                reviewId,
+                sort,
+                user != null ? user.getId() : null,
+                cursor,
+                size
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/review-statistics")
     public ResponseEntity<ApiResponse<RestaurantReviewStatisticsResponse>> getRestaurantReviewStatistics(
             @PathVariable Long restaurantId) {
@@ -8,7 +8,7 @@ import org.springframework.util.StringUtils;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 public record GoodPriceRestaurantDto(
         @JsonProperty("id") Long id,
         @JsonProperty("name") String name,
@@ -24,6 +24,8 @@ public record GoodPriceRestaurantDto(
         @JsonProperty("phone") String phone,
         @JsonProperty("average_price") Double averagePrice,
         @JsonProperty("price_range") Integer priceRange,
+        @JsonProperty("value_for_money_point") Integer valueForMoneyPoint,
+        @JsonProperty("price_percentile") String pricePercentile,
         @JsonProperty("cached_at") LocalDateTime cachedAt
 ) {
 
@@ -77,6 +79,20 @@ public record GoodPriceRestaurantDto(
                 .build();
     }
 
+    public GoodPriceRestaurantDto withStatistics(BigDecimal averageRating, Long reviewCount,
+                                                 Integer valueForMoneyPoint, String pricePercentile) {
+        return this.toBuilder()
+                .averageRating(averageRating != null ? averageRating : BigDecimal.ZERO)
+                .reviewCount(reviewCount != null ? reviewCount : 0L)
+                .valueForMoneyPoint(valueForMoneyPoint)
+                .pricePercentile(pricePercentile)
+                .build();
+    }
+
+    public RestaurantInfoResponse toRestaurantInfoResponse(String distance) {
+        return toRestaurantInfoResponse(distance, this.valueForMoneyPoint, this.pricePercentile);
+    }
+
     public RestaurantInfoResponse toRestaurantInfoResponse(String distance, Integer valueForMoneyPoint, String pricePercentile) {
         return RestaurantInfoResponse.builder()
                 .id(this.id)
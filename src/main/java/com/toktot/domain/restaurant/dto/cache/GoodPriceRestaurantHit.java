@@ -0,0 +1,7 @@
+package com.toktot.domain.restaurant.dto.cache;
+
+public record GoodPriceRestaurantHit(
+        GoodPriceRestaurantDto restaurant,
+        Double distanceKm
+) {
+}
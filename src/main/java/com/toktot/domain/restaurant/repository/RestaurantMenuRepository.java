@@ -1,6 +1,7 @@
 package com.toktot.domain.restaurant.repository;
 
 import com.toktot.domain.restaurant.RestaurantMenu;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,6 +29,25 @@ public interface RestaurantMenuRepository extends JpaRepository<RestaurantMenu,
         WHERE rm.restaurant.id IN :restaurantIds
           AND rm.isMain = true
           AND rm.isActive = true
+        ORDER BY rm.id ASC
         """)
     List<Object[]> findMainMenuPricesBatch(@Param("restaurantIds") List<Long> restaurantIds);
+
+    @Query("""
+        SELECT MIN(rm.pricePerServing)
+        FROM RestaurantMenu rm
+        WHERE rm.isMain = true
+          AND rm.isActive = true
+        GROUP BY rm.restaurant.id
+        """)
+    List<Integer> findLowestMainMenuPricePerRestaurant();
+
+    @Query("""
+        SELECT rm
+        FROM RestaurantMenu rm
+        WHERE rm.localFoodVersion IS NULL
+           OR rm.localFoodVersion <> :version
+        ORDER BY rm.id ASC
+        """)
+    List<RestaurantMenu> findUnclassifiedLocalFood(@Param("version") Integer version, Pageable pageable);
 }
@@ -1,13 +1,19 @@
 package com.toktot.domain.restaurant.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.toktot.common.util.DistanceCalculator;
+import com.toktot.common.util.GeoHashUtil;
 import com.toktot.domain.localfood.LocalFoodType;
 import com.toktot.domain.restaurant.Restaurant;
 import com.toktot.domain.restaurant.dto.response.PriceRangeRestaurantResponse;
+import com.toktot.domain.statistics.RestaurantStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,19 +22,25 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.toktot.domain.restaurant.QRestaurant.restaurant;
 import static com.toktot.domain.review.QReview.review;
 import static com.toktot.domain.review.QReviewImage.reviewImage;
 import static com.toktot.domain.review.QTooltip.tooltip;
+import static com.toktot.domain.statistics.QRestaurantStatistics.restaurantStatistics;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class RestaurantPriceRangeRepository {
 
+    private static final double NEAREST_PROBE_INITIAL_KM = 1;
+    private static final double NEAREST_PROBE_GROWTH = 4;
+
     private final JPAQueryFactory queryFactory;
 
     public Page<PriceRangeRestaurantResponse> findRestaurantsByPriceRange(
@@ -43,8 +55,10 @@ public class RestaurantPriceRangeRepository {
         log.info("가격대별 가게 조회 시작 - 향토음식: {}, 가격범위: {}~{}, 반경: {}m",
                 localFoodType.getDisplayName(), minPrice, maxPrice, radiusInMeters);
 
-        JPAQuery<Restaurant> query = queryFactory
-                .selectFrom(restaurant)
+        JPAQuery<Tuple> query = queryFactory
+                .select(restaurant, restaurantStatistics)
+                .from(restaurant)
+                .leftJoin(restaurantStatistics).on(restaurantStatistics.restaurantId.eq(restaurant.id))
                 .where(
                         JPAExpressions
                                 .selectOne()
@@ -52,7 +66,7 @@ public class RestaurantPriceRangeRepository {
                                 .join(reviewImage).on(reviewImage.review.eq(review))
                                 .join(tooltip).on(tooltip.reviewImage.eq(reviewImage))
                                 .where(review.restaurant.id.eq(restaurant.id)
-                                        .and(tooltip.menuName.containsIgnoreCase(localFoodType.getDisplayName()))
+                                        .and(tooltip.localFoodType.eq(localFoodType))
                                         .and(tooltip.totalPrice.isNotNull())
                                         .and(tooltip.servingSize.isNotNull())
                                         .and(tooltip.servingSize.gt(0))
@@ -63,12 +77,14 @@ public class RestaurantPriceRangeRepository {
                 );
 
         if (latitude != null && longitude != null) {
-            NumberExpression<Double> distanceExpression = buildDistanceExpression(
-                    latitude.doubleValue(),
-                    longitude.doubleValue()
-            );
-            query.where(distanceExpression.loe(radiusInMeters / 1000.0));
-            query.orderBy(distanceExpression.asc());
+            double userLat = latitude.doubleValue();
+            double userLon = longitude.doubleValue();
+            double radiusKm = radiusInMeters / 1000.0;
+
+            query.where(buildWithinRadiusCondition(userLat, userLon, radiusKm));
+            query.where(findNearestProbeCondition(query, userLat, userLon, radiusKm,
+                    pageable.getOffset() + pageable.getPageSize()));
+            query.orderBy(buildDistanceExpression(userLat, userLon).asc());
         } else {
             query.orderBy(restaurant.id.desc());
         }
@@ -83,7 +99,7 @@ public class RestaurantPriceRangeRepository {
                                 .join(reviewImage).on(reviewImage.review.eq(review))
                                 .join(tooltip).on(tooltip.reviewImage.eq(reviewImage))
                                 .where(review.restaurant.id.eq(restaurant.id)
-                                        .and(tooltip.menuName.containsIgnoreCase(localFoodType.getDisplayName()))
+                                        .and(tooltip.localFoodType.eq(localFoodType))
                                         .and(tooltip.totalPrice.isNotNull())
                                         .and(tooltip.servingSize.isNotNull())
                                         .and(tooltip.servingSize.gt(0))
@@ -94,13 +110,21 @@ public class RestaurantPriceRangeRepository {
                 )
                 .fetchOne();
 
-        List<Restaurant> restaurants = query
+        List<Tuple> rows = query
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        List<PriceRangeRestaurantResponse> results = restaurants.stream()
-                .map(r -> convertToResponse(r, latitude, longitude, minPrice, maxPrice))
+        Map<Long, String> mainImageUrls = findLatestMainImageUrls(rows.stream()
+                .map(row -> row.get(restaurant).getId())
+                .toList());
+
+        List<PriceRangeRestaurantResponse> results = rows.stream()
+                .map(row -> {
+                    Restaurant r = row.get(restaurant);
+                    return convertToResponse(r, row.get(restaurantStatistics), mainImageUrls.get(r.getId()),
+                            latitude, longitude, minPrice, maxPrice);
+                })
                 .collect(Collectors.toList());
 
         log.info("가격대별 가게 조회 완료 - 총 {}개 가게", total);
@@ -108,36 +132,39 @@ public class RestaurantPriceRangeRepository {
         return new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
 
+    private Map<Long, String> findLatestMainImageUrls(List<Long> restaurantIds) {
+        Map<Long, String> imageUrls = new HashMap<>();
+        if (restaurantIds.isEmpty()) {
+            return imageUrls;
+        }
+
+        StringExpression mainImageUrl = reviewImage.thumbnailUrl.coalesce(reviewImage.imageUrl);
+
+        queryFactory
+                .select(review.restaurant.id, mainImageUrl)
+                .from(reviewImage)
+                .join(reviewImage.review, review)
+                .where(review.restaurant.id.in(restaurantIds)
+                        .and(reviewImage.isMain.isTrue()))
+                .orderBy(review.createdAt.desc())
+                .fetch()
+                .forEach(row -> imageUrls.putIfAbsent(row.get(review.restaurant.id), row.get(mainImageUrl)));
+
+        return imageUrls;
+    }
+
     private PriceRangeRestaurantResponse convertToResponse(
             Restaurant restaurant,
+            RestaurantStatistics statistics,
+            String imageUrl,
             BigDecimal userLat,
             BigDecimal userLon,
             Integer minPrice,
             Integer maxPrice
     ) {
-        Double avgRating = queryFactory
-                .select(tooltip.rating.avg())
-                .from(tooltip)
-                .join(tooltip.reviewImage, reviewImage)
-                .join(reviewImage.review, review)
-                .where(review.restaurant.id.eq(restaurant.getId())
-                        .and(tooltip.rating.isNotNull()))
-                .fetchOne();
-
-        Long reviewCount = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.restaurant.id.eq(restaurant.getId()))
-                .fetchOne();
-
-        String imageUrl = queryFactory
-                .select(reviewImage.imageUrl)
-                .from(reviewImage)
-                .join(reviewImage.review, review)
-                .where(review.restaurant.id.eq(restaurant.getId())
-                        .and(reviewImage.isMain.isTrue()))
-                .orderBy(reviewImage.review.createdAt.desc())
-                .fetchFirst();
+        Double avgRating = statistics != null && statistics.getAverageRating() != null
+                ? statistics.getAverageRating().doubleValue() : null;
+        Integer reviewCount = statistics != null ? statistics.getReviewCount() : 0;
 
         Double distance = null;
         if (userLat != null && userLon != null) {
@@ -158,13 +185,42 @@ public class RestaurantPriceRangeRepository {
                 .distance(distance)
                 .category(restaurant.getCategory())
                 .averageRating(avgRating)
-                .reviewCount(reviewCount != null ? reviewCount.intValue() : 0)
+                .reviewCount(reviewCount)
                 .isGoodPriceStore(restaurant.getIsGoodPriceStore())
                 .ImageUrl(imageUrl)
                 .averagePriceInRange((minPrice + maxPrice) / 2)
                 .build();
     }
 
+    private BooleanExpression buildWithinRadiusCondition(double userLat, double userLon, double radiusKm) {
+        DistanceCalculator.BoundingBox box = DistanceCalculator.boundingBox(userLat, userLon, radiusKm);
+
+        BooleanExpression inCells = GeoHashUtil.coveringRanges(box).stream()
+                .map(range -> restaurant.geoHash.between(range.min(), range.max()))
+                .reduce(BooleanExpression::or)
+                .orElseThrow();
+
+        return inCells.and(buildDistanceExpression(userLat, userLon).loe(radiusKm));
+    }
+
+    private BooleanExpression findNearestProbeCondition(JPAQuery<Tuple> query, double userLat, double userLon,
+                                                        double radiusKm, long needed) {
+        for (double probeKm = NEAREST_PROBE_INITIAL_KM; probeKm < radiusKm; probeKm *= NEAREST_PROBE_GROWTH) {
+            BooleanExpression withinProbe = buildWithinRadiusCondition(userLat, userLon, probeKm);
+            int found = query.clone()
+                    .where(withinProbe)
+                    .limit(needed)
+                    .fetch()
+                    .size();
+
+            if (found >= needed) {
+                return withinProbe;
+            }
+        }
+
+        return null;
+    }
+
     private NumberExpression<Double> buildDistanceExpression(double userLat, double userLon) {
         return Expressions.numberTemplate(Double.class,
                 "6371 * acos(cos(radians({0})) * cos(radians({1})) * " +
@@ -2,10 +2,12 @@ package com.toktot.domain.restaurant.repository;
 
 import com.toktot.domain.restaurant.Restaurant;
 import com.toktot.domain.restaurant.type.DataSource;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,46 +15,42 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 
     Optional<Restaurant> findByExternalKakaoIdAndIsActive(String externalKakaoId, Boolean isActive);
 
-    Optional<Restaurant> findByNameAndIsActive(String name, Boolean isActive);
-
-    List<Restaurant> findByNameContainingIgnoreCaseAndIsActive(String name, Boolean isActive);
-
-    List<Restaurant> findAllByDataSourceAndIsActive(DataSource dataSource, Boolean isActive);
-
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.restaurant.id = :restaurantId AND r.isHidden = false")
-    Long countReviewsByRestaurantId(@Param("restaurantId") Long restaurantId);
+    List<Restaurant> findAllByExternalKakaoIdInAndIsActive(Collection<String> externalKakaoIds, Boolean isActive);
 
-    @Query("SELECT r.valueForMoneyScore FROM Review r WHERE r.restaurant.id = :restaurantId AND r.isHidden = false")
-    List<Integer> findValueForMoneyScoresByRestaurantId(@Param("restaurantId") Long restaurantId);
+    Optional<Restaurant> findByNameAndIsActive(String name, Boolean isActive);
 
     @Query("""
-        SELECT r.restaurant.id, r.valueForMoneyScore
-        FROM Review r
-        WHERE r.restaurant.id IN :restaurantIds
-          AND r.isHidden = false
-          AND r.valueForMoneyScore IS NOT NULL
+        SELECT r
+        FROM Restaurant r
+        WHERE r.isActive = :isActive
+          AND lower(r.name) LIKE concat('%',
+                replace(replace(replace(lower(:name), '\\', '\\\\'), '%', '\\%'), '_', '\\_'),
+                '%') ESCAPE '\\'
+        ORDER BY function('similarity', lower(r.name), lower(:name)) DESC, r.id ASC
         """)
-    List<Object[]> findValueForMoneyScoresBatch(@Param("restaurantIds") List<Long> restaurantIds);
+    List<Restaurant> findByNameContainingIgnoreCaseAndIsActive(@Param("name") String name,
+                                                                @Param("isActive") Boolean isActive);
 
-    @Query("""
-        SELECT COUNT(DISTINCT rm.restaurant.id)
-        FROM RestaurantMenu rm
-        WHERE rm.isMain = true 
-          AND rm.isActive = true
-        """)
-    Long countRestaurantsWithMainMenu();
+    List<Restaurant> findAllByDataSourceAndIsActive(DataSource dataSource, Boolean isActive);
 
     @Query("""
-        SELECT COUNT(DISTINCT rm.restaurant.id)
-        FROM RestaurantMenu rm
-        WHERE rm.isMain = true
-          AND rm.isActive = true
-          AND rm.pricePerServing < :price
+        SELECT r.id, r.externalTourApiId
+        FROM Restaurant r
+        WHERE r.dataSource = :dataSource
+          AND r.isActive = true
+          AND r.externalTourApiId IS NOT NULL
+          AND r.id > :lastId
+        ORDER BY r.id ASC
         """)
-    Long countRestaurantsWithCheaperMainMenu(@Param("price") Integer price);
+    List<Object[]> findActiveExternalTourApiIdsAfter(@Param("dataSource") DataSource dataSource,
+                                                      @Param("lastId") Long lastId,
+                                                      Pageable pageable);
 
     Optional<Restaurant> findByExternalTourApiId(String externalTourApiId);
 
+    @Query("SELECT r.externalTourApiId FROM Restaurant r WHERE r.externalTourApiId IN :externalTourApiIds")
+    List<String> findExistingExternalTourApiIds(@Param("externalTourApiIds") Collection<String> externalTourApiIds);
+
     List<Restaurant> findByExternalKakaoIdIsNull();
 
     List<Restaurant> findByIsGoodPriceStoreAndIsActive(Boolean isGoodPriceStore, Boolean isActive);
@@ -1,16 +1,23 @@
 package com.toktot.domain.restaurant.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.toktot.common.util.DistanceCalculator;
+import com.toktot.common.util.GeoHashUtil;
 import com.toktot.domain.restaurant.Restaurant;
 import com.toktot.domain.restaurant.dto.response.RestaurantInfoResponse;
 import com.toktot.domain.restaurant.service.RestaurantStatisticsService;
 import com.toktot.domain.review.type.KeywordType;
 import com.toktot.domain.review.type.TooltipType;
+import com.toktot.domain.search.type.SortType;
+import com.toktot.domain.statistics.RestaurantStatistics;
 import com.toktot.web.dto.request.SearchCriteria;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,7 +27,6 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,14 +35,17 @@ import java.util.stream.Collectors;
 import static com.toktot.domain.folder.QFolderReview.folderReview;
 import static com.toktot.domain.restaurant.QRestaurant.restaurant;
 import static com.toktot.domain.review.QReview.review;
-import static com.toktot.domain.review.QReviewImage.reviewImage;
 import static com.toktot.domain.review.QReviewKeyword.reviewKeyword;
 import static com.toktot.domain.review.QTooltip.tooltip;
+import static com.toktot.domain.statistics.QRestaurantStatistics.restaurantStatistics;
 
 @Repository
 @RequiredArgsConstructor
 public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepository {
 
+    private static final double NEAREST_PROBE_INITIAL_KM = 1;
+    private static final double NEAREST_PROBE_GROWTH = 4;
+
     private final JPAQueryFactory queryFactory;
     private final RestaurantStatisticsService restaurantStatisticsService;
 
@@ -47,19 +56,24 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
             List<Long> blockedUserIds,
             Pageable pageable) {
 
-        List<Restaurant> restaurants = queryFactory
-                .selectFrom(restaurant)
-                .where(
-                        restaurant.isActive.isTrue()
-                                .and(
-                                        JPAExpressions
-                                                .selectOne()
-                                                .from(review)
-                                                .where(review.restaurant.id.eq(restaurant.id)
-                                                        .and(buildReviewFilterConditions(criteria, blockedUserIds)))
-                                                .exists()
-                                )
-                )
+        BooleanBuilder condition = new BooleanBuilder();
+        condition.and(restaurant.isActive.isTrue())
+                .and(JPAExpressions
+                        .selectOne()
+                        .from(review)
+                        .where(review.restaurant.id.eq(restaurant.id)
+                                .and(buildReviewFilterConditions(criteria, blockedUserIds)))
+                        .exists());
+
+        if (criteria.hasLocationFilter()) {
+            condition.and(buildWithinRadiusCondition(criteria));
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(restaurant, restaurantStatistics)
+                .from(restaurant)
+                .leftJoin(restaurantStatistics).on(restaurantStatistics.restaurantId.eq(restaurant.id))
+                .where(narrowToNearest(condition, criteria, pageable.getOffset() + pageable.getPageSize()))
                 .orderBy(buildRestaurantOrderSpecifiers(criteria))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -68,36 +82,10 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
         Long totalCount = queryFactory
                 .select(restaurant.count())
                 .from(restaurant)
-                .where(
-                        restaurant.isActive.isTrue()
-                                .and(
-                                        JPAExpressions
-                                                .selectOne()
-                                                .from(review)
-                                                .where(review.restaurant.id.eq(restaurant.id)
-                                                        .and(buildReviewFilterConditions(criteria, blockedUserIds)))
-                                                .exists()
-                                )
-                )
+                .where(condition)
                 .fetchOne();
 
-        List<Long> restaurantIds = restaurants.stream()
-                .map(Restaurant::getId)
-                .toList();
-
-        Map<Long, Integer> valueForMoneyMap = restaurantStatisticsService
-                .calculateValueForMoneyPointsBatch(restaurantIds);
-        Map<Long, String> percentileMap = restaurantStatisticsService
-                .calculatePricePercentilesBatch(restaurantIds);
-
-        List<RestaurantInfoResponse> responseList = restaurants.stream()
-                .map(r -> convertToRestaurantInfoResponseWithStats(
-                        r,
-                        criteria,
-                        valueForMoneyMap.get(r.getId()),
-                        percentileMap.get(r.getId())
-                ))
-                .toList();
+        List<RestaurantInfoResponse> responseList = convertToRestaurantInfoResponses(rows, criteria);
 
         return PageableExecutionUtils.getPage(responseList, pageable, () -> totalCount != null ?
                 totalCount : 0L);
@@ -120,7 +108,7 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
                 .and(restaurant.isActive.isTrue());
 
         if (criteria.hasLocationFilter()) {
-            builder.and(buildDistanceExpression(criteria).loe(criteria.radius().doubleValue()));
+            builder.and(buildWithinRadiusCondition(criteria));
         }
 
         if (!blockedUserIds.isEmpty()) {
@@ -138,8 +126,10 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
 
         OrderSpecifier<?>[] orderSpecifiers = buildRestaurantOrderSpecifiers(criteria);
 
-        List<Restaurant> restaurants = queryFactory
-                .selectFrom(restaurant)
+        List<Tuple> rows = queryFactory
+                .select(restaurant, restaurantStatistics)
+                .from(restaurant)
+                .leftJoin(restaurantStatistics).on(restaurantStatistics.restaurantId.eq(restaurant.id))
                 .where(builder)
                 .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
@@ -152,33 +142,38 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
                 .where(builder)
                 .fetchOne();
 
-        List<Long> fetchedIds = restaurants.stream()
-                .map(Restaurant::getId)
-                .toList();
-
-        Map<Long, Integer> valueForMoneyMap = restaurantStatisticsService
-                .calculateValueForMoneyPointsBatch(fetchedIds);
-        Map<Long, String> percentileMap = restaurantStatisticsService
-                .calculatePricePercentilesBatch(fetchedIds);
-
         return new PageImpl<>(
-                restaurants.stream()
-                        .map(r -> convertToRestaurantInfoResponseWithStats(
-                                r,
-                                criteria,
-                                valueForMoneyMap.get(r.getId()),
-                                percentileMap.get(r.getId())
-                        ))
-                        .collect(Collectors.toList()),
+                convertToRestaurantInfoResponses(rows, criteria),
                 pageable,
                 Objects.requireNonNullElse(total, 0L)
         );
     }
 
+    private List<RestaurantInfoResponse> convertToRestaurantInfoResponses(List<Tuple> rows, SearchCriteria criteria) {
+        List<Long> restaurantIds = rows.stream()
+                .map(row -> row.get(restaurant).getId())
+                .toList();
+
+        Map<Long, String> percentileMap = restaurantStatisticsService
+                .calculatePricePercentilesBatch(restaurantIds);
+
+        return rows.stream()
+                .map(row -> {
+                    Restaurant r = row.get(restaurant);
+                    return convertToRestaurantInfoResponseWithStats(
+                            r,
+                            row.get(restaurantStatistics),
+                            criteria,
+                            percentileMap.get(r.getId())
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
     private RestaurantInfoResponse convertToRestaurantInfoResponseWithStats(
             Restaurant restaurant,
+            RestaurantStatistics statistics,
             SearchCriteria criteria,
-            Integer valueForMoneyPoint,
             String pricePercentile) {
 
         String distance = null;
@@ -190,25 +185,9 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
             distance = distanceKm != null ? String.format("%.1fkm", distanceKm) : null;
         }
 
-        Double avgRatingDouble = queryFactory
-                .select(tooltip.rating.avg())
-                .from(review)
-                .join(review.images, reviewImage)
-                .join(reviewImage.tooltips, tooltip)
-                .where(review.restaurant.id.eq(restaurant.getId())
-                        .and(tooltip.tooltipType.eq(TooltipType.FOOD))
-                        .and(review.isHidden.isFalse()))
-                .fetchOne();
-
-        BigDecimal avgRating = (avgRatingDouble != null) ?
-                BigDecimal.valueOf(avgRatingDouble).setScale(1, RoundingMode.HALF_UP) : BigDecimal.ZERO;
-
-        Long reviewCount = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.restaurant.id.eq(restaurant.getId())
-                        .and(review.isHidden.isFalse()))
-                .fetchOne();
+        BigDecimal avgRating = statistics != null ? statistics.getAverageRatingOrZero() : BigDecimal.ZERO;
+        Long reviewCount = statistics != null ? statistics.getReviewCountAsLong() : 0L;
+        Integer valueForMoneyPoint = statistics != null ? statistics.getAverageSatisfaction() : null;
 
         return RestaurantInfoResponse.builder()
                 .id(restaurant.getId())
@@ -217,7 +196,7 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
                 .distance(distance)
                 .mainMenus(restaurant.getPopularMenus())
                 .averageRating(avgRating)
-                .reviewCount(reviewCount != null ? reviewCount : 0L)
+                .reviewCount(reviewCount)
                 .isGoodPriceStore(restaurant.getIsGoodPriceStore())
                 .isLocalStore(restaurant.getIsLocalStore())
                 .image(restaurant.getImage())
@@ -247,10 +226,6 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
             );
         }
 
-        if (criteria.hasLocationFilter()) {
-            builder.and(buildDistanceExpression(criteria).loe(criteria.radius().doubleValue()));
-        }
-
         if (criteria.hasRatingFilter()) {
             builder.and(JPAExpressions
                     .select(tooltip.rating.avg())
@@ -283,6 +258,46 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
         return builder;
     }
 
+    private BooleanExpression buildWithinRadiusCondition(SearchCriteria criteria) {
+        return buildWithinRadiusCondition(criteria, criteria.radius() / 1000.0);
+    }
+
+    private BooleanExpression buildWithinRadiusCondition(SearchCriteria criteria, double radiusKm) {
+        DistanceCalculator.BoundingBox box = DistanceCalculator.boundingBox(
+                criteria.latitude(), criteria.longitude(), radiusKm);
+
+        BooleanExpression inCells = GeoHashUtil.coveringRanges(box).stream()
+                .map(range -> restaurant.geoHash.between(range.min(), range.max()))
+                .reduce(BooleanExpression::or)
+                .orElseThrow();
+
+        return inCells.and(buildDistanceExpression(criteria).loe(radiusKm));
+    }
+
+    private Predicate narrowToNearest(Predicate condition, SearchCriteria criteria, long needed) {
+        if (criteria.sort() != SortType.DISTANCE || !criteria.hasLocationFilter()) {
+            return condition;
+        }
+
+        double radiusKm = criteria.radius() / 1000.0;
+        for (double probeKm = NEAREST_PROBE_INITIAL_KM; probeKm < radiusKm; probeKm *= NEAREST_PROBE_GROWTH) {
+            BooleanExpression withinProbe = buildWithinRadiusCondition(criteria, probeKm);
+            int found = queryFactory
+                    .select(restaurant.id)
+                    .from(restaurant)
+                    .where(condition, withinProbe)
+                    .limit(needed)
+                    .fetch()
+                    .size();
+
+            if (found >= needed) {
+                return new BooleanBuilder(condition).and(withinProbe);
+            }
+        }
+
+        return condition;
+    }
+
     private NumberExpression<Double> buildDistanceExpression(SearchCriteria criteria) {
         return Expressions.numberTemplate(Double.class,
                 "6371 * acos(cos(radians({0})) * cos(radians(restaurant.latitude)) * cos(radians(restaurant.longitude) - radians({1})) + sin(radians({0})) * sin(radians(restaurant.latitude)))",
@@ -301,18 +316,31 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
                         restaurant.createdAt.desc()
                 };
                 case RATING -> new OrderSpecifier[]{
-                        buildRestaurantAvgRatingExpression().desc(),
+                        restaurantStatistics.averageRating.desc().nullsLast(),
                         restaurant.createdAt.desc()
                 };
                 case SATISFACTION -> new OrderSpecifier[]{
-                        buildRestaurantSatisfactionExpression().desc(),
+                        restaurantStatistics.averageSatisfaction.desc().nullsLast(),
                         restaurant.createdAt.desc()
                 };
             };
         }
+
+        if (criteria.hasValidQuery()) {
+            return new OrderSpecifier[]{
+                    buildNameRelevanceExpression(criteria.query()).desc(),
+                    restaurant.createdAt.desc()
+            };
+        }
         return new OrderSpecifier[]{restaurant.createdAt.desc()};
     }
 
+    private NumberExpression<Double> buildNameRelevanceExpression(String query) {
+        return Expressions.numberTemplate(Double.class,
+                "function('similarity', lower({0}), {1})",
+                restaurant.name, query.toLowerCase());
+    }
+
     private NumberExpression<Long> buildRestaurantPopularityExpression() {
         return Expressions.numberTemplate(Long.class, "({0})",
                 JPAExpressions
@@ -323,29 +351,6 @@ public class RestaurantSearchRepositoryImpl implements RestaurantSearchRepositor
         );
     }
 
-    private NumberExpression<Double> buildRestaurantAvgRatingExpression() {
-        return Expressions.numberTemplate(Double.class, "({0})",
-                JPAExpressions
-                        .select(tooltip.rating.avg())
-                        .from(review)
-                        .join(review.images, reviewImage)
-                        .join(reviewImage.tooltips, tooltip)
-                        .where(review.restaurant.id.eq(restaurant.id)
-                                .and(tooltip.tooltipType.eq(TooltipType.FOOD))
-                                .and(review.isHidden.isFalse()))
-        );
-    }
-
-    private NumberExpression<Double> buildRestaurantSatisfactionExpression() {
-        return Expressions.numberTemplate(Double.class, "({0})",
-                JPAExpressions
-                        .select(review.valueForMoneyScore.avg())
-                        .from(review)
-                        .where(review.restaurant.id.eq(restaurant.id)
-                                .and(review.isHidden.isFalse()))
-        );
-    }
-
     private String extractCityAndDistrict(String fullAddress) {
         if (fullAddress == null || fullAddress.trim().isEmpty()) {
             return null;
@@ -1,19 +1,29 @@
 package com.toktot.domain.restaurant.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toktot.common.util.PriceParserUtil;
 import com.toktot.domain.restaurant.Restaurant;
 import com.toktot.domain.restaurant.dto.cache.GoodPriceRestaurantDto;
+import com.toktot.domain.restaurant.dto.cache.GoodPriceRestaurantHit;
 import com.toktot.domain.restaurant.repository.RestaurantRepository;
+import com.toktot.domain.statistics.RestaurantStatistics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.domain.geo.GeoReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -21,11 +31,21 @@ import java.util.*;
 public class GoodPriceCacheService {
 
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantStatisticsService restaurantStatisticsService;
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
 
     private static final String REDIS_KEY_PREFIX = "good_price_restaurants:";
+    private static final String GEO_KEY_PREFIX = REDIS_KEY_PREFIX + "geo:";
+    private static final String DETAIL_KEY_PREFIX = REDIS_KEY_PREFIX + "detail:";
+    private static final String ORDER_KEY_PREFIX = REDIS_KEY_PREFIX + "order:";
+    private static final String NO_LOCATION_KEY_PREFIX = REDIS_KEY_PREFIX + "no-location:";
+    private static final String STAGING_SUFFIX = ":staging";
     private static final Duration CACHE_TTL = Duration.ofDays(1);
+    // 가까운 반경부터 검색해 필요한 개수가 모이면 멈춘다. 마지막 반경은 지구 반대편까지 포함해 GEO 키 전체를 덮는다.
+    private static final double INITIAL_SEARCH_RADIUS_KM = 2;
+    private static final double SEARCH_RADIUS_GROWTH = 4;
+    private static final double MAX_SEARCH_RADIUS_KM = 20_050;
 
     @Transactional(readOnly = true)
     public void cacheGoodPriceRestaurantsByPriceRange() {
@@ -39,14 +59,17 @@ public class GoodPriceCacheService {
 
             Map<Integer, List<GoodPriceRestaurantDto>> restaurantsByPriceRange = classifyByPriceRange(goodPriceRestaurants);
 
+            List<Long> restaurantIds = goodPriceRestaurants.stream().map(Restaurant::getId).toList();
+            Map<Long, RestaurantStatistics> statisticsMap = restaurantStatisticsService.findStatisticsBatch(restaurantIds);
+            Map<Long, String> pricePercentileMap = restaurantStatisticsService.calculatePricePercentilesBatch(restaurantIds);
+
             for (Map.Entry<Integer, List<GoodPriceRestaurantDto>> entry : restaurantsByPriceRange.entrySet()) {
                 Integer priceRange = entry.getKey();
-                List<GoodPriceRestaurantDto> restaurants = entry.getValue();
-
-                String redisKey = REDIS_KEY_PREFIX + priceRange;
-                String jsonValue = objectMapper.writeValueAsString(restaurants);
+                List<GoodPriceRestaurantDto> restaurants = entry.getValue().stream()
+                        .map(dto -> attachStatistics(dto, statisticsMap.get(dto.id()), pricePercentileMap.get(dto.id())))
+                        .toList();
 
-                redisTemplate.opsForValue().set(redisKey, jsonValue, CACHE_TTL);
+                writePriceRangeIndex(priceRange, restaurants);
 
                 log.info("가격대 {} 캐시 완료: {} 개 매장",
                         PriceParserUtil.getPriceRangeName(priceRange), restaurants.size());
@@ -60,26 +83,57 @@ public class GoodPriceCacheService {
         }
     }
 
-    public List<GoodPriceRestaurantDto> getGoodPriceRestaurantsByPriceRange(Integer priceRange) {
+    public long countByPriceRange(Integer priceRange) {
+        Long count = redisTemplate.opsForList().size(ORDER_KEY_PREFIX + priceRange);
+        return count != null ? count : 0L;
+    }
+
+    public List<GoodPriceRestaurantHit> findPageByPriceRange(Integer priceRange, Double longitude, Double latitude,
+                                                             long offset, int size) {
         try {
-            String redisKey = REDIS_KEY_PREFIX + priceRange;
-            String jsonValue = redisTemplate.opsForValue().get(redisKey);
+            if (longitude == null || latitude == null) {
+                List<String> restaurantIds = redisTemplate.opsForList()
+                        .range(ORDER_KEY_PREFIX + priceRange, offset, offset + size - 1);
+                return loadRestaurants(priceRange, restaurantIds, Collections.emptyMap());
+            }
+
+            List<String> restaurantIds = new ArrayList<>();
+            Map<String, Double> distances = new HashMap<>();
 
-            if (jsonValue == null) {
-                log.warn("Redis에서 가격대 {} 데이터를 찾을 수 없음",
-                        PriceParserUtil.getPriceRangeName(priceRange));
-                return Collections.emptyList();
+            Long geoCountValue = redisTemplate.opsForZSet().zCard(GEO_KEY_PREFIX + priceRange);
+            long geoCount = geoCountValue != null ? geoCountValue : 0L;
+
+            long geoMatched = geoCount;
+            if (offset < geoCount) {
+                List<GeoResult<RedisGeoCommands.GeoLocation<String>>> results =
+                        searchNearest(GEO_KEY_PREFIX + priceRange, longitude, latitude, Math.min(offset + size, geoCount));
+
+                if (results.size() < offset + size) {
+                    geoMatched = results.size();
+                }
+
+                results.stream()
+                        .skip(offset)
+                        .forEach(result -> {
+                            String restaurantId = result.getContent().getName();
+                            restaurantIds.add(restaurantId);
+                            distances.put(restaurantId, result.getDistance().getValue());
+                        });
             }
 
-            List<GoodPriceRestaurantDto> restaurants = objectMapper.readValue(
-                    jsonValue,
-                    new TypeReference<List<GoodPriceRestaurantDto>>() {}
-            );
+            if (restaurantIds.size() < size) {
+                long noLocationOffset = Math.max(0L, offset - geoMatched);
+                List<String> noLocationIds = redisTemplate.opsForList().range(
+                        NO_LOCATION_KEY_PREFIX + priceRange,
+                        noLocationOffset,
+                        noLocationOffset + (size - restaurantIds.size()) - 1);
 
-            log.debug("가격대 {} 캐시에서 {} 개 매장 조회",
-                    PriceParserUtil.getPriceRangeName(priceRange), restaurants.size());
+                if (noLocationIds != null) {
+                    restaurantIds.addAll(noLocationIds);
+                }
+            }
 
-            return restaurants;
+            return loadRestaurants(priceRange, restaurantIds, distances);
 
         } catch (Exception e) {
             log.error("Redis에서 가격대별 매장 조회 실패: priceRange={}", priceRange, e);
@@ -87,6 +141,115 @@ public class GoodPriceCacheService {
         }
     }
 
+    private List<GeoResult<RedisGeoCommands.GeoLocation<String>>> searchNearest(String key, Double longitude,
+                                                                                  Double latitude, long limit) {
+        double radiusKm = INITIAL_SEARCH_RADIUS_KM;
+        while (true) {
+            boolean lastAttempt = radiusKm >= MAX_SEARCH_RADIUS_KM;
+            GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+                    key,
+                    GeoReference.fromCoordinate(longitude, latitude),
+                    new Distance(Math.min(radiusKm, MAX_SEARCH_RADIUS_KM), Metrics.KILOMETERS),
+                    RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs()
+                            .includeDistance()
+                            .sortAscending()
+                            .limit(limit)
+            );
+
+            List<GeoResult<RedisGeoCommands.GeoLocation<String>>> content =
+                    results != null ? results.getContent() : Collections.emptyList();
+            if (content.size() >= limit || lastAttempt) {
+                return content;
+            }
+
+            radiusKm *= SEARCH_RADIUS_GROWTH;
+        }
+    }
+
+    private List<GoodPriceRestaurantHit> loadRestaurants(Integer priceRange, List<String> restaurantIds,
+                                                         Map<String, Double> distances) throws JsonProcessingException {
+        if (restaurantIds == null || restaurantIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(DETAIL_KEY_PREFIX + priceRange, new ArrayList<>(restaurantIds));
+
+        List<GoodPriceRestaurantHit> hits = new ArrayList<>();
+        for (int i = 0; i < restaurantIds.size(); i++) {
+            Object value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+
+            GoodPriceRestaurantDto restaurant = objectMapper.readValue(value.toString(), GoodPriceRestaurantDto.class);
+            hits.add(new GoodPriceRestaurantHit(restaurant, distances.get(restaurantIds.get(i))));
+        }
+
+        log.debug("가격대 {} 캐시에서 {} 개 매장 조회",
+                PriceParserUtil.getPriceRangeName(priceRange), hits.size());
+
+        return hits;
+    }
+
+    private GoodPriceRestaurantDto attachStatistics(GoodPriceRestaurantDto dto, RestaurantStatistics statistics,
+                                                    String pricePercentile) {
+        if (statistics == null) {
+            return dto.withStatistics(null, null, null, pricePercentile);
+        }
+
+        return dto.withStatistics(
+                statistics.getAverageRatingOrZero(),
+                statistics.getReviewCountAsLong(),
+                statistics.getAverageSatisfaction(),
+                pricePercentile
+        );
+    }
+
+    private void writePriceRangeIndex(Integer priceRange, List<GoodPriceRestaurantDto> restaurants)
+            throws JsonProcessingException {
+        Map<String, String> details = new LinkedHashMap<>();
+        Map<String, Point> locations = new HashMap<>();
+        List<String> order = new ArrayList<>();
+        List<String> noLocation = new ArrayList<>();
+
+        for (GoodPriceRestaurantDto restaurant : restaurants) {
+            String restaurantId = String.valueOf(restaurant.id());
+
+            details.put(restaurantId, objectMapper.writeValueAsString(restaurant));
+            order.add(restaurantId);
+
+            if (restaurant.latitude() != null && restaurant.longitude() != null) {
+                locations.put(restaurantId,
+                        new Point(restaurant.longitude().doubleValue(), restaurant.latitude().doubleValue()));
+            } else {
+                noLocation.add(restaurantId);
+            }
+        }
+
+        replaceKey(DETAIL_KEY_PREFIX + priceRange, !details.isEmpty(),
+                key -> redisTemplate.opsForHash().putAll(key, details));
+        replaceKey(GEO_KEY_PREFIX + priceRange, !locations.isEmpty(),
+                key -> redisTemplate.opsForGeo().add(key, locations));
+        replaceKey(ORDER_KEY_PREFIX + priceRange, !order.isEmpty(),
+                key -> redisTemplate.opsForList().rightPushAll(key, order));
+        replaceKey(NO_LOCATION_KEY_PREFIX + priceRange, !noLocation.isEmpty(),
+                key -> redisTemplate.opsForList().rightPushAll(key, noLocation));
+    }
+
+    private void replaceKey(String key, boolean hasValues, Consumer<String> writer) {
+        if (!hasValues) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String stagingKey = key + STAGING_SUFFIX;
+        redisTemplate.delete(stagingKey);
+        writer.accept(stagingKey);
+        redisTemplate.rename(stagingKey, key);
+        redisTemplate.expire(key, CACHE_TTL);
+    }
+
     private Map<Integer, List<GoodPriceRestaurantDto>> classifyByPriceRange(List<Restaurant> restaurants) {
         Map<Integer, List<GoodPriceRestaurantDto>> result = new HashMap<>();
 
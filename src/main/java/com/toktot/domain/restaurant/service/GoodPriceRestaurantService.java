@@ -2,9 +2,8 @@ package com.toktot.domain.restaurant.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
-import com.toktot.common.util.DistanceCalculator;
 import com.toktot.common.util.PriceParserUtil;
-import com.toktot.domain.restaurant.dto.cache.GoodPriceRestaurantDto;
+import com.toktot.domain.restaurant.dto.cache.GoodPriceRestaurantHit;
 import com.toktot.domain.restaurant.dto.response.RestaurantInfoResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +14,6 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,7 +21,6 @@ import java.util.stream.Collectors;
 public class GoodPriceRestaurantService {
 
     private final GoodPriceCacheService goodPriceCacheService;
-    private final RestaurantStatisticsService restaurantStatisticsService;
 
     public Page<RestaurantInfoResponse> getGoodPriceRestaurants(
             Integer priceRange,
@@ -37,20 +34,26 @@ public class GoodPriceRestaurantService {
                 PriceParserUtil.getPriceRangeName(validPriceRange),
                 latitude, longitude, pageable.getPageNumber());
 
-        List<GoodPriceRestaurantDto> cachedRestaurants =
-                goodPriceCacheService.getGoodPriceRestaurantsByPriceRange(validPriceRange);
+        long totalCount = goodPriceCacheService.countByPriceRange(validPriceRange);
 
-        if (cachedRestaurants.isEmpty()) {
+        if (totalCount == 0) {
             log.warn("해당 가격대에 착한가격업소가 없습니다: {}",
                     PriceParserUtil.getPriceRangeName(validPriceRange));
             return Page.empty(pageable);
         }
 
-        List<RestaurantInfoResponse> restaurants = cachedRestaurants.stream()
-                .map(dto -> convertToResponseWithDistance(dto, longitude, latitude))
-                .collect(Collectors.toList());
+        List<GoodPriceRestaurantHit> hits = goodPriceCacheService.findPageByPriceRange(
+                validPriceRange,
+                longitude != null ? longitude.doubleValue() : null,
+                latitude != null ? latitude.doubleValue() : null,
+                pageable.getOffset(),
+                pageable.getPageSize());
 
-        return createPagedResult(restaurants, pageable);
+        List<RestaurantInfoResponse> restaurants = hits.stream()
+                .map(this::convertToResponse)
+                .toList();
+
+        return new PageImpl<>(restaurants, pageable, totalCount);
     }
 
     private Integer validateAndNormalizePriceRange(Integer priceRange) {
@@ -66,36 +69,10 @@ public class GoodPriceRestaurantService {
         return priceRange;
     }
 
-    private RestaurantInfoResponse convertToResponseWithDistance(
-            GoodPriceRestaurantDto dto,
-            BigDecimal userLongitude,
-            BigDecimal userLatitude) {
-
-        String distance = null;
-
-        if (userLongitude != null && userLatitude != null &&
-                dto.longitude() != null && dto.latitude() != null) {
-
-            try {
-                double distanceKm = DistanceCalculator.calculateDistance(
-                        userLatitude.doubleValue(),
-                        userLongitude.doubleValue(),
-                        dto.latitude().doubleValue(),
-                        dto.longitude().doubleValue()
-                );
-
-                distance = formatDistance(distanceKm);
-                log.debug("거리 계산 완료 - 가게: {}, 거리: {}", dto.name(), distance);
-
-            } catch (Exception e) {
-                log.warn("거리 계산 실패 - 가게: {}", dto.name(), e);
-            }
-        }
-
-        Integer valueForMoneyPoint = restaurantStatisticsService.calculateValueForMoneyPoint(dto.id());
-        String pricePercentile = restaurantStatisticsService.calculatePricePercentile(dto.id());
+    private RestaurantInfoResponse convertToResponse(GoodPriceRestaurantHit hit) {
+        String distance = hit.distanceKm() != null ? formatDistance(hit.distanceKm()) : null;
 
-        return dto.toRestaurantInfoResponse(distance, valueForMoneyPoint, pricePercentile);
+        return hit.restaurant().toRestaurantInfoResponse(distance);
     }
 
     private String formatDistance(double distanceKm) {
@@ -105,17 +82,4 @@ public class GoodPriceRestaurantService {
             return String.format("%.1fkm", distanceKm);
         }
     }
-
-    private Page<RestaurantInfoResponse> createPagedResult(
-            List<RestaurantInfoResponse> allRestaurants,
-            Pageable pageable) {
-
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allRestaurants.size());
-
-        List<RestaurantInfoResponse> pageContent =
-                (start < allRestaurants.size()) ? allRestaurants.subList(start, end) : List.of();
-
-        return new PageImpl<>(pageContent, pageable, allRestaurants.size());
-    }
 }
@@ -2,6 +2,8 @@ package com.toktot.domain.restaurant.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.common.util.ImageProcessingUtil;
+import com.toktot.config.external.S3TransferExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,12 +11,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 @Slf4j
 @Service
@@ -22,6 +27,7 @@ import java.util.UUID;
 public class MenuImageS3StorageService {
 
     private final S3Client s3Client;
+    private final S3TransferExecutor s3TransferExecutor;
 
     @Value("${toktot.s3.bucket-name}")
     private String bucketName;
@@ -29,6 +35,15 @@ public class MenuImageS3StorageService {
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
     private static final String[] ALLOWED_CONTENT_TYPES = {"image/jpeg", "image/png"};
     private static final String[] ALLOWED_EXTENSIONS = {"jpg", "jpeg", "png"};
+    private static final int MAX_IMAGE_DIMENSION = 2048;
+
+    public List<String> uploadImagesAndGetImageUrls(MultipartFile[] files, Long restaurantId) {
+        List<Callable<String>> uploadTasks = Arrays.stream(files)
+                .<Callable<String>>map(file -> () -> uploadImageAndGetImageUrl(file, restaurantId))
+                .toList();
+
+        return s3TransferExecutor.invokeAll(uploadTasks, this::deleteImage);
+    }
 
     public String uploadImageAndGetImageUrl(MultipartFile file, Long restaurantId) {
         log.debug("메뉴 이미지 업로드 시작 - restaurantId: {}, fileName: {}, fileSize: {}KB",
@@ -36,32 +51,61 @@ public class MenuImageS3StorageService {
 
         validateFile(file);
 
+        byte[] source;
+        try {
+            source = file.getBytes();
+        } catch (IOException e) {
+            log.error("S3 업로드 실패 - restaurantId: {}, fileName: {}, error: {}",
+                    restaurantId, file.getOriginalFilename(), e.getMessage());
+            throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED, "이미지 업로드에 실패했습니다.");
+        }
+
+        String extension = getFileExtension(file.getOriginalFilename());
+        String contentType = file.getContentType();
+        byte[] content = source;
+        try {
+            content = ImageProcessingUtil.toJpeg(ImageProcessingUtil.readImage(source), MAX_IMAGE_DIMENSION);
+            extension = "jpg";
+            contentType = "image/jpeg";
+        } catch (IOException | RuntimeException e) {
+            log.warn("메뉴 이미지 변환 실패, 원본을 그대로 업로드합니다 - restaurantId: {}, fileName: {}, error: {}",
+                    restaurantId, file.getOriginalFilename(), e.getMessage());
+        }
+
         String imageId = UUID.randomUUID().toString();
-        String s3Key = String.format("menu-submissions/%d/%s.%s",
-                restaurantId, imageId, getFileExtension(file.getOriginalFilename()));
+        String s3Key = String.format("menu-submissions/%d/%s.%s", restaurantId, imageId, extension);
 
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(s3Key)
-                .contentType(file.getContentType())
-                .contentLength(file.getSize())
+                .contentType(contentType)
+                .contentLength((long) content.length)
                 .acl(ObjectCannedACL.PUBLIC_READ)
                 .build();
 
-        try {
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-        } catch (IOException e) {
-            log.error("S3 업로드 실패 - restaurantId: {}, fileName: {}, error: {}",
-                    restaurantId, file.getOriginalFilename(), e.getMessage());
-            throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED, "이미지 업로드에 실패했습니다.");
-        }
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
 
-        String imageUrl = String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, s3Key);
+        String imageUrl = getImageUrlPrefix() + s3Key;
         log.debug("메뉴 이미지 업로드 완료 - restaurantId: {}, imageUrl: {}", restaurantId, imageUrl);
 
         return imageUrl;
     }
 
+    public void deleteImage(String imageUrl) {
+        String s3Key = imageUrl.substring(getImageUrlPrefix().length());
+
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build());
+
+        log.debug("메뉴 이미지 삭제 완료 - s3Key: {}", s3Key);
+    }
+
+    private String getImageUrlPrefix() {
+        return String.format("https://%s.s3.ap-northeast-2.amazonaws.com/", bucketName);
+    }
+
     public void validateMultipleFiles(MultipartFile[] files) {
         if (files == null || files.length == 0) {
             throw new ToktotException(ErrorCode.MISSING_REQUIRED_FIELD, "이미지를 업로드해 주세요.");
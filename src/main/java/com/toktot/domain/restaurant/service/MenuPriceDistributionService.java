@@ -0,0 +1,73 @@
+package com.toktot.domain.restaurant.service;
+
+import com.toktot.domain.restaurant.repository.RestaurantMenuRepository;
+import com.toktot.domain.statistics.PriceDistribution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MenuPriceDistributionService {
+
+    private final RestaurantMenuRepository restaurantMenuRepository;
+
+    private volatile PriceDistribution mainMenuDistribution;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    public PriceDistribution getMainMenuDistribution() {
+        PriceDistribution current = mainMenuDistribution;
+        if (current == null) {
+            synchronized (this) {
+                if (mainMenuDistribution == null) {
+                    refresh();
+                }
+                current = mainMenuDistribution;
+            }
+        }
+        return current;
+    }
+
+    public void markDirtyAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirty.set(true);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirty.set(true);
+            }
+        });
+    }
+
+    public boolean refreshIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return false;
+        }
+
+        try {
+            refresh();
+            return true;
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+
+    public synchronized void refresh() {
+        List<Integer> lowestMainMenuPrices = restaurantMenuRepository.findLowestMainMenuPricePerRestaurant();
+        mainMenuDistribution = PriceDistribution.of(lowestMainMenuPrices, lowestMainMenuPrices.size());
+
+        log.info("메뉴 가격 분포 갱신 완료 - 대표메뉴 보유 가게 수: {}", mainMenuDistribution.totalCount());
+    }
+}
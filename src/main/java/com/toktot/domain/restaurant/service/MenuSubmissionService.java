@@ -34,8 +34,7 @@ public class MenuSubmissionService {
         Restaurant restaurant = findRestaurant(restaurantId);
         RestaurantMenuSubmissions submission = RestaurantMenuSubmissions.create(user, restaurant);
 
-        for (MultipartFile file : files) {
-            String imageUrl = menuImageS3StorageService.uploadImageAndGetImageUrl(file, restaurantId);
+        for (String imageUrl : menuImageS3StorageService.uploadImagesAndGetImageUrls(files, restaurantId)) {
             RestaurantMenuSubmissionImage image = RestaurantMenuSubmissionImage.create(imageUrl);
             submission.addImage(image);
         }
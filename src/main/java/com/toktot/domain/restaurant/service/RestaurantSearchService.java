@@ -11,6 +11,7 @@ import com.toktot.domain.restaurant.dto.request.RestaurantSearchRequest;
 import com.toktot.domain.restaurant.dto.response.RestaurantDetailResponse;
 import com.toktot.domain.restaurant.dto.response.RestaurantInfoResponse;
 import com.toktot.domain.restaurant.dto.response.RestaurantSearchResponse;
+import com.toktot.domain.statistics.RestaurantStatistics;
 import com.toktot.external.kakao.KakaoApiConstants;
 import com.toktot.external.kakao.dto.response.KakaoPlaceInfo;
 import com.toktot.external.kakao.dto.response.KakaoPlaceSearchResponse;
@@ -24,10 +25,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -43,64 +43,150 @@ public class RestaurantSearchService {
     private final LocalFoodDetectionService localFoodDetectionService;
     private final RestaurantStatisticsService restaurantStatisticsService;
 
+    private static final int KAKAO_PARALLEL_PAGE_COUNT = 3;
+
     @Transactional
     public RestaurantSearchResponse searchFromKakaoWithPagination(RestaurantSearchRequest request) {
         validateSearchRequest(request);
 
-        int currentPage = request.page();
+        List<KakaoPlaceInfo> placeInfos = new ArrayList<>();
+        int currentPage = request.page() - 1;
+        boolean isEnd = false;
+        int pageCount = 1;
+
+        while (placeInfos.size() < KakaoApiConstants.DEFAULT_SIZE && !isEnd) {
+            List<Future<KakaoPlaceSearchResponse>> pages = fetchKakaoPages(request, currentPage + 1, pageCount);
+            if (pages.isEmpty()) {
+                isEnd = true;
+                break;
+            }
+
+            int collectedBefore = placeInfos.size();
+            try {
+                for (Future<KakaoPlaceSearchResponse> page : pages) {
+                    KakaoPlaceSearchResponse kakaoResponse = awaitKakaoPage(page);
+                    currentPage++;
+
+                    placeInfos.addAll(kakaoResponse.getPlaceInfos());
+                    isEnd = kakaoResponse.isEnd() || currentPage >= KakaoApiConstants.MAX_PAGE;
+
+                    if (placeInfos.size() >= KakaoApiConstants.DEFAULT_SIZE || isEnd) {
+                        break;
+                    }
+                }
+            } finally {
+                pages.forEach(page -> page.cancel(true));
+            }
+
+            pageCount = estimateRemainingPages(placeInfos.size() - collectedBefore, pages.size(), placeInfos.size());
+        }
 
-        KakaoPlaceSearchResponse kakaoResponse = kakaoMapService.searchJejuAllFoodAndCafePlace(
-                request.query(),
-                currentPage,
-                request.location(),
-                request.sort()
-        );
+        List<RestaurantInfoResponse> restaurantInfoResponses = processAndSaveKakaoResults(placeInfos);
 
-        List<RestaurantInfoResponse> restaurantInfoResponses = new ArrayList<>(
-                processAndSaveKakaoResults(kakaoResponse.placeInfos())
-        );
+        return RestaurantSearchResponse.from(restaurantInfoResponses, currentPage, isEnd);
+    }
 
-        boolean isEnd = kakaoResponse.isEnd();
+    private int estimateRemainingPages(int collected, int fetchedPages, int totalCollected) {
+        // 첫 페이지만 먼저 조회하고, 부족할 때만 직전 페이지당 결과 수로 필요한 페이지 수를 추정해 병렬 조회한다.
+        int remaining = KakaoApiConstants.DEFAULT_SIZE - totalCollected;
+        if (remaining <= 0) {
+            return 0;
+        }
 
-        while (restaurantInfoResponses.size() < KakaoApiConstants.DEFAULT_SIZE && !isEnd) {
-            currentPage++;
-            KakaoPlaceSearchResponse additionalResponse = kakaoMapService.searchJejuAllFoodAndCafePlace(
+        if (collected == 0) {
+            return KAKAO_PARALLEL_PAGE_COUNT;
+        }
+
+        int perPage = Math.max(1, collected / fetchedPages);
+        int needed = (remaining + perPage - 1) / perPage;
+        return Math.min(needed, KAKAO_PARALLEL_PAGE_COUNT);
+    }
+
+    private List<Future<KakaoPlaceSearchResponse>> fetchKakaoPages(RestaurantSearchRequest request, int startPage,
+                                                                   int pageCount) {
+        int endPage = Math.min(startPage + pageCount - 1, KakaoApiConstants.MAX_PAGE);
+
+        List<Future<KakaoPlaceSearchResponse>> pages = new ArrayList<>();
+        for (int page = startPage; page <= endPage; page++) {
+            pages.add(kakaoMapService.searchJejuAllFoodAndCafePlaceAsync(
                     request.query(),
-                    currentPage,
+                    page,
                     request.location(),
                     request.sort()
-            );
-
-            restaurantInfoResponses.addAll(processAndSaveKakaoResults(additionalResponse.placeInfos()));
-            isEnd = additionalResponse.isEnd();
+            ));
         }
 
-        return RestaurantSearchResponse.from(restaurantInfoResponses, currentPage, isEnd);
+        return pages;
+    }
+
+    private KakaoPlaceSearchResponse awaitKakaoPage(Future<KakaoPlaceSearchResponse> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, "카카오 검색 결과 대기 중 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, e.getCause().getMessage());
+        }
     }
 
     private List<RestaurantInfoResponse> processAndSaveKakaoResults(List<KakaoPlaceInfo> placeInfos) {
+        if (placeInfos == null || placeInfos.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Restaurant> restaurantsByKakaoId = findOrSaveRestaurants(placeInfos);
+
+        List<Long> restaurantIds = restaurantsByKakaoId.values().stream()
+                .map(Restaurant::getId)
+                .distinct()
+                .toList();
+
+        Map<Long, RestaurantStatistics> statisticsMap = restaurantStatisticsService.findStatisticsBatch(restaurantIds);
+        Map<Long, String> pricePercentileMap = restaurantStatisticsService.calculatePricePercentilesBatch(restaurantIds);
+
         return placeInfos.stream()
-                .map(this::findOrSaveRestaurantWithStats)
+                .map(kakaoPlaceInfo -> {
+                    Restaurant restaurant = restaurantsByKakaoId.get(kakaoPlaceInfo.getId());
+                    RestaurantStatistics statistics = statisticsMap.get(restaurant.getId());
+
+                    BigDecimal averageRating = statistics != null ? statistics.getAverageRatingOrZero() : BigDecimal.ZERO;
+                    Long reviewCount = statistics != null ? statistics.getReviewCountAsLong() : 0L;
+                    Integer valueForMoneyPoint = statistics != null ? statistics.getAverageSatisfaction() : null;
+
+                    return RestaurantInfoResponse.withStatsComplete(restaurant, kakaoPlaceInfo, averageRating,
+                            reviewCount, kakaoPlaceInfo.getDistance(), valueForMoneyPoint,
+                            pricePercentileMap.get(restaurant.getId()));
+                })
                 .collect(Collectors.toList());
     }
 
-    private RestaurantInfoResponse findOrSaveRestaurantWithStats(KakaoPlaceInfo kakaoPlaceInfo) {
-        Optional<Restaurant> optionalRestaurant = restaurantRepository.findByExternalKakaoIdAndIsActive(
-                kakaoPlaceInfo.getId(), true);
+    private Map<String, Restaurant> findOrSaveRestaurants(List<KakaoPlaceInfo> placeInfos) {
+        Set<String> kakaoIds = placeInfos.stream()
+                .map(KakaoPlaceInfo::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, Restaurant> restaurantsByKakaoId = new HashMap<>();
+        restaurantRepository.findAllByExternalKakaoIdInAndIsActive(kakaoIds, true)
+                .forEach(restaurant -> restaurantsByKakaoId.putIfAbsent(restaurant.getExternalKakaoId(), restaurant));
 
-        Restaurant restaurant = optionalRestaurant.orElseGet(() -> {
-            Restaurant newRestaurant = kakaoPlaceInfo.toEntity();
-            return restaurantRepository.save(newRestaurant);
-        });
+        Map<String, Restaurant> newRestaurants = new LinkedHashMap<>();
+        for (KakaoPlaceInfo kakaoPlaceInfo : placeInfos) {
+            if (!restaurantsByKakaoId.containsKey(kakaoPlaceInfo.getId())) {
+                newRestaurants.putIfAbsent(kakaoPlaceInfo.getId(), kakaoPlaceInfo.toEntity());
+            }
+        }
 
-        BigDecimal averageRating = restaurantStatisticsService.calculateAverageRating(restaurant.getId());
-        Long reviewCount = restaurantStatisticsService.calculateReviewCount(restaurant.getId());
-        Integer valueForMoneyPoint = restaurantStatisticsService.calculateValueForMoneyPoint(restaurant.getId());
-        String pricePercentile = restaurantStatisticsService.calculatePricePercentile(restaurant.getId());
-        String distance = kakaoPlaceInfo.getDistance();
+        if (!newRestaurants.isEmpty()) {
+            restaurantRepository.saveAll(newRestaurants.values())
+                    .forEach(restaurant -> restaurantsByKakaoId.put(restaurant.getExternalKakaoId(), restaurant));
+            log.debug("카카오 신규 가게 저장 - 저장 수: {}", newRestaurants.size());
+        }
 
-        return RestaurantInfoResponse.withStatsComplete(restaurant, kakaoPlaceInfo, averageRating, reviewCount,
-                distance, valueForMoneyPoint, pricePercentile);
+        return restaurantsByKakaoId;
     }
 
     public Page<RestaurantInfoResponse> searchRestaurantsWithFilters(SearchCriteria criteria,
@@ -122,17 +208,12 @@ public class RestaurantSearchService {
 
         List<Long> blockedUserIds = getBlockedUserIds(currentUserId);
 
-        var tooltips = localFoodDetectionService.findTooltipsByTypeAndPrice(
+        List<Long> restaurantIds = localFoodDetectionService.findRestaurantIdsByTypeAndPrice(
                 criteria.localFood().type(),
                 criteria.localFood().minPrice(),
                 criteria.localFood().maxPrice()
         );
 
-        List<Long> restaurantIds = tooltips.stream()
-                .map(tooltip -> tooltip.getReviewImage().getReview().getRestaurant().getId())
-                .distinct()
-                .collect(Collectors.toList());
-
         if (restaurantIds.isEmpty()) {
             return Page.empty(pageable);
         }
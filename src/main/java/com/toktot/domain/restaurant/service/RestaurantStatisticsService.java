@@ -1,10 +1,12 @@
 package com.toktot.domain.restaurant.service;
 
-import com.toktot.domain.restaurant.repository.RestaurantRepository;
 import com.toktot.domain.restaurant.repository.RestaurantMenuRepository;
+import com.toktot.domain.review.Review;
+import com.toktot.domain.review.ReviewImage;
 import com.toktot.domain.review.Tooltip;
-import com.toktot.domain.review.repository.TooltipRepository;
-import com.toktot.domain.review.type.TooltipType;
+import com.toktot.domain.statistics.PriceDistribution;
+import com.toktot.domain.statistics.RestaurantStatistics;
+import com.toktot.domain.statistics.repository.RestaurantStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,44 +23,58 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RestaurantStatisticsService {
 
-    private final RestaurantRepository restaurantRepository;
     private final RestaurantMenuRepository restaurantMenuRepository;
-    private final TooltipRepository tooltipRepository;
+    private final RestaurantStatisticsRepository restaurantStatisticsRepository;
+    private final MenuPriceDistributionService menuPriceDistributionService;
 
-    public BigDecimal calculateAverageRating(Long restaurantId) {
-        List<Tooltip> tooltips = tooltipRepository.findByReviewImageReviewRestaurantIdAndTooltipType(
-                restaurantId, TooltipType.FOOD);
+    @Transactional
+    public void applyReviewCreated(Review review) {
+        applyReviewDelta(review, 1);
+    }
 
-        if (tooltips.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
+    @Transactional
+    public void applyReviewHidden(Review review) {
+        applyReviewDelta(review, -1);
+    }
 
-        double average = tooltips.stream()
-                .mapToDouble(tooltip -> tooltip.getRating().doubleValue())
-                .average()
-                .orElse(0.0);
+    @Transactional
+    public int rebuildAllStatistics() {
+        int rebuiltCount = restaurantStatisticsRepository.rebuildReviewStatistics();
+        int resetCount = restaurantStatisticsRepository.resetStatisticsWithoutVisibleReviews();
 
-        return BigDecimal.valueOf(average);
+        log.info("가게 통계 재계산 완료 - 갱신: {}개, 초기화: {}개", rebuiltCount, resetCount);
+        return rebuiltCount + resetCount;
     }
 
-    public Long calculateReviewCount(Long restaurantId) {
-        return restaurantRepository.countReviewsByRestaurantId(restaurantId);
+    public Optional<RestaurantStatistics> findStatistics(Long restaurantId) {
+        return restaurantStatisticsRepository.findById(restaurantId);
     }
 
-    public Integer calculateValueForMoneyPoint(Long restaurantId) {
-        List<Integer> valueForMoneyScores = restaurantRepository
-                .findValueForMoneyScoresByRestaurantId(restaurantId);
-
-        if (valueForMoneyScores.isEmpty()) {
-            return null;
+    public Map<Long, RestaurantStatistics> findStatisticsBatch(Collection<Long> restaurantIds) {
+        if (restaurantIds == null || restaurantIds.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        double average = valueForMoneyScores.stream()
-                .mapToInt(Integer::intValue)
-                .average()
-                .orElse(0.0);
+        return restaurantStatisticsRepository.findAllById(restaurantIds).stream()
+                .collect(Collectors.toMap(RestaurantStatistics::getRestaurantId, Function.identity()));
+    }
+
+    public BigDecimal calculateAverageRating(Long restaurantId) {
+        return findStatistics(restaurantId)
+                .map(RestaurantStatistics::getAverageRatingOrZero)
+                .orElse(BigDecimal.ZERO);
+    }
 
-        return (int) Math.round(average);
+    public Long calculateReviewCount(Long restaurantId) {
+        return findStatistics(restaurantId)
+                .map(RestaurantStatistics::getReviewCountAsLong)
+                .orElse(0L);
+    }
+
+    public Integer calculateValueForMoneyPoint(Long restaurantId) {
+        return findStatistics(restaurantId)
+                .map(RestaurantStatistics::getAverageSatisfaction)
+                .orElse(null);
     }
 
     public String calculatePricePercentile(Long restaurantId) {
@@ -68,43 +85,7 @@ public class RestaurantStatisticsService {
             return null;
         }
 
-        Long totalRestaurantCount = restaurantRepository.countRestaurantsWithMainMenu();
-        Long cheaperRestaurantCount = restaurantRepository
-                .countRestaurantsWithCheaperMainMenu(mainMenuPrice);
-
-        return calculatePercentileLabel(cheaperRestaurantCount, totalRestaurantCount);
-    }
-
-    public Map<Long, Integer> calculateValueForMoneyPointsBatch(List<Long> restaurantIds) {
-        if (restaurantIds == null || restaurantIds.isEmpty()) {
-            log.debug("배치 만족도 계산 - restaurantIds가 비어있음");
-            return Collections.emptyMap();
-        }
-
-        log.info("배치 만족도 계산 시작 - 가게 수: {}", restaurantIds.size());
-
-        List<Object[]> results = restaurantRepository.findValueForMoneyScoresBatch(restaurantIds);
-        log.info("배치 만족도 쿼리 결과 - 행 수: {}", results.size());
-
-        Map<Long, List<Integer>> scoresByRestaurant = results.stream()
-                .collect(Collectors.groupingBy(
-                        row -> (Long) row[0],
-                        Collectors.mapping(row -> (Integer) row[1], Collectors.toList())
-                ));
-
-        Map<Long, Integer> resultMap = scoresByRestaurant.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> {
-                            List<Integer> scores = entry.getValue();
-                            if (scores.isEmpty()) return null;
-                            double avg = scores.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-                            return (int) Math.round(avg);
-                        }
-                ));
-
-        log.info("배치 만족도 계산 완료 - 결과 가게 수: {}", resultMap.size());
-        return resultMap;
+        return calculatePercentileLabel(menuPriceDistributionService.getMainMenuDistribution(), mainMenuPrice);
     }
 
     public Map<Long, String> calculatePricePercentilesBatch(List<Long> restaurantIds) {
@@ -113,71 +94,67 @@ public class RestaurantStatisticsService {
             return Collections.emptyMap();
         }
 
-        log.info("배치 백분위수 계산 시작 - 가게 수: {}", restaurantIds.size());
-
         List<Object[]> menuPrices = restaurantMenuRepository.findMainMenuPricesBatch(restaurantIds);
-        log.info("배치 메뉴 가격 쿼리 결과 - 행 수: {}", menuPrices.size());
 
         if (menuPrices.isEmpty()) {
-            log.warn("배치 백분위수 계산 실패 - 대표메뉴가 있는 가게 없음");
+            log.debug("배치 백분위수 계산 - 대표메뉴가 있는 가게 없음");
             return Collections.emptyMap();
         }
 
-        menuPrices.forEach(row -> {
+        PriceDistribution distribution = menuPriceDistributionService.getMainMenuDistribution();
+
+        Map<Long, String> resultMap = new HashMap<>();
+        for (Object[] row : menuPrices) {
             Long restaurantId = (Long) row[0];
             Integer price = (Integer) row[1];
-            log.debug("restaurantId={}, pricePerServing={}", restaurantId, price);
-        });
 
-        Long totalCount = restaurantRepository.countRestaurantsWithMainMenu();
-        log.info("전체 대표메뉴 보유 가게 수: {}", totalCount);
+            if (price == null || resultMap.containsKey(restaurantId)) {
+                continue;
+            }
 
-        Set<Integer> uniquePrices = menuPrices.stream()
-                .map(row -> (Integer) row[1])
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+            String percentile = calculatePercentileLabel(distribution, price);
+            if (percentile != null) {
+                resultMap.put(restaurantId, percentile);
+            }
+        }
 
-        log.info("고유 가격 종류 수: {}", uniquePrices.size());
+        log.debug("배치 백분위수 계산 완료 - 요청 가게 수: {}, 결과 가게 수: {}", restaurantIds.size(), resultMap.size());
+        return resultMap;
+    }
 
-        Map<Integer, Long> cheaperCountMap = new HashMap<>();
-        for (Integer price : uniquePrices) {
-            Long count = restaurantRepository.countRestaurantsWithCheaperMainMenu(price);
-            cheaperCountMap.put(price, count);
-            log.debug("가격 {}원보다 저렴한 가게 수: {}", price, count);
+    private void applyReviewDelta(Review review, int direction) {
+        BigDecimal ratingSum = BigDecimal.ZERO;
+        int ratingCount = 0;
+
+        for (ReviewImage image : review.getImages()) {
+            for (Tooltip tooltip : image.getTooltips()) {
+                if (tooltip.isFood() && tooltip.getRating() != null) {
+                    ratingSum = ratingSum.add(tooltip.getRating());
+                    ratingCount++;
+                }
+            }
         }
 
-        Map<Long, String> resultMap = menuPrices.stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> {
-                            Integer price = (Integer) row[1];
-                            if (price == null) {
-                                log.warn("가게 {}의 pricePerServing이 null", row[0]);
-                                return null;
-                            }
-                            Long cheaperCount = cheaperCountMap.getOrDefault(price, 0L);
-                            String percentile = calculatePercentileLabel(cheaperCount, totalCount);
-                            log.debug("가게 {}: 가격={}원, 더 저렴한 가게 수={}, 백분위={}",
-                                    row[0], price, cheaperCount, percentile);
-                            return percentile;
-                        }
-                ));
-
-        log.info("배치 백분위수 계산 완료 - 결과 가게 수: {}", resultMap.size());
-
-        resultMap.forEach((id, percentile) -> {
-            log.info("최종 결과 - restaurantId={}, percent={}", id, percentile);
-        });
+        long valueForMoney = review.getValueForMoneyScore() != null ? review.getValueForMoneyScore() : 0;
 
-        return resultMap;
+        restaurantStatisticsRepository.applyReviewDelta(
+                review.getRestaurant().getId(),
+                direction,
+                direction > 0 ? ratingSum : ratingSum.negate(),
+                direction * ratingCount,
+                direction * valueForMoney
+        );
+
+        log.debug("가게 통계 반영 - restaurantId: {}, reviewId: {}, direction: {}",
+                review.getRestaurant().getId(), review.getId(), direction);
     }
 
-    private String calculatePercentileLabel(Number lowerCount, Number totalCount) {
-        if (totalCount == null || totalCount.longValue() == 0) {
+    private String calculatePercentileLabel(PriceDistribution distribution, int price) {
+        if (distribution.isEmpty()) {
             return null;
         }
 
-        double percentile = (lowerCount.doubleValue() / totalCount.doubleValue()) * 100;
+        double percentile = ((double) distribution.countCheaperThan(price) / distribution.totalCount()) * 100;
 
         if (percentile >= 70) {
             return "상위 30%";
@@ -9,16 +9,24 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_reviews_restaurant_created_at", columnList = "restaurant_id, created_at"),
+        @Index(name = "idx_reviews_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_reviews_bookmark_count_created_at_id", columnList = "bookmark_count, created_at, id"),
+        @Index(name = "idx_reviews_average_rating_created_at_id", columnList = "average_rating, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @SQLRestriction("is_hidden = false")
 @Getter
@@ -66,6 +74,17 @@ public class Review {
     @Column(name = "is_hidden", nullable = false)
     private Boolean isHidden = false;
 
+    // 정렬 키는 엔티티 플러시가 동시 갱신을 덮어쓰지 않도록 ReviewRepository의 벌크 쿼리로만 갱신한다.
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "bookmark_count", nullable = false, updatable = false)
+    private Integer bookmarkCount = 0;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "average_rating", precision = 3, scale = 2, nullable = false, updatable = false)
+    private BigDecimal averageRating = BigDecimal.ZERO;
+
     @Builder.Default
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewReport> reports = new ArrayList<>();
@@ -1,5 +1,6 @@
 package com.toktot.domain.review;
 
+import com.toktot.domain.review.type.ReviewImageVariant;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
@@ -33,6 +34,12 @@ public class ReviewImage {
     @Column(name = "image_url", length = 500, nullable = false)
     private String imageUrl;
 
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
@@ -64,6 +71,16 @@ public class ReviewImage {
 
     public void setImageUrl(Long restaurantId, Long reviewId, String extension) {
         this.imageUrl = "https://toktot-dev-images.s3.ap-northeast-2.amazonaws.com/reviews/" + restaurantId.toString() + "/" + reviewId.toString() + "/" + this.imageId + ".jpg";
+        this.mediumUrl = ReviewImageVariant.MEDIUM.apply(this.imageUrl);
+        this.thumbnailUrl = ReviewImageVariant.THUMBNAIL.apply(this.imageUrl);
+    }
+
+    public String resolveMediumUrl() {
+        return mediumUrl != null ? mediumUrl : imageUrl;
+    }
+
+    public String resolveThumbnailUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
     }
 
     public void assignReview(Review review) {
@@ -0,0 +1,76 @@
+package com.toktot.domain.review;
+
+import com.toktot.domain.review.type.ReviewImageMigrationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "review_image_migrations", indexes = {
+        @Index(name = "idx_review_image_migration_due", columnList = "status, next_attempt_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ReviewImageMigration {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "source_key", length = 500, nullable = false)
+    private String sourceKey;
+
+    @Column(name = "target_key", length = 500, nullable = false)
+    private String targetKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ReviewImageMigrationStatus status;
+
+    @Builder.Default
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ReviewImageMigration create(Long reviewId, String sourceKey, String targetKey) {
+        return ReviewImageMigration.builder()
+                .reviewId(reviewId)
+                .sourceKey(sourceKey)
+                .targetKey(targetKey)
+                .status(ReviewImageMigrationStatus.PENDING)
+                .attemptCount(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void recordFailure(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.nextAttemptAt = nextAttemptAt;
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = ReviewImageMigrationStatus.FAILED;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.toktot.domain.review;
 
+import com.toktot.domain.localfood.LocalFoodType;
 import com.toktot.domain.review.type.TooltipType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,7 +11,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tooltips")
+@Table(name = "tooltips", indexes = {
+        @Index(name = "idx_tooltips_local_food_type", columnList = "local_food_type, tooltip_type")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,6 +54,13 @@ public class Tooltip {
     @Column(name = "detailed_review", length = 100)
     private String detailedReview;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "local_food_type", length = 50)
+    private LocalFoodType localFoodType;
+
+    @Column(name = "local_food_version")
+    private Integer localFoodVersion;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -58,7 +68,7 @@ public class Tooltip {
     public static Tooltip create(BigDecimal xPosition, BigDecimal yPosition,
                                  String menuName, Integer totalPrice, Integer servingSize,
                                  BigDecimal rating, String detailedReview, TooltipType type) {
-        return Tooltip.builder()
+        Tooltip tooltip = Tooltip.builder()
                 .tooltipType(type)
                 .xPosition(xPosition)
                 .yPosition(yPosition)
@@ -68,6 +78,13 @@ public class Tooltip {
                 .servingSize(servingSize)
                 .detailedReview(detailedReview)
                 .build();
+        tooltip.classifyLocalFood();
+        return tooltip;
+    }
+
+    public void classifyLocalFood() {
+        this.localFoodType = LocalFoodType.findByMenuName(menuName).orElse(null);
+        this.localFoodVersion = LocalFoodType.classificationVersion();
     }
 
     public void assignReviewImage(ReviewImage reviewImage) {
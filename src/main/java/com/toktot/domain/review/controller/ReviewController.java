@@ -9,6 +9,7 @@ import com.toktot.domain.search.dto.response.EnhancedSearchResponse;
 import com.toktot.domain.search.service.EnhancedSearchService;
 import com.toktot.domain.user.User;
 import com.toktot.web.dto.ApiResponse;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.domain.review.dto.request.ReviewCreateRequest;
 import com.toktot.domain.review.dto.response.create.ReviewCreateResponse;
 import com.toktot.web.dto.request.SearchCriteria;
@@ -109,6 +110,33 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/feed/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewFeedResponse>>> getReviewFeedByCursor(
+            @RequestBody(required = false) SearchRequest request,
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.atInfo()
+                .setMessage("실시간 리뷰 피드 커서 요청")
+                .addKeyValue("userId", user != null ? user.getId() : null)
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        SearchCriteria criteria = request != null ?
+                reviewFilterService.validateAndConvert(request) :
+                new SearchCriteria(null, null, null, null, null, null, null, null, null, null, null);
+
+        CursorPageResponse<ReviewFeedResponse> response = reviewSearchService.getReviewFeedByCursor(
+                criteria,
+                user != null ? user.getId() : null,
+                cursor,
+                size
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<Page<ReviewListResponse>>> getMyReviews(
             @AuthenticationPrincipal User user,
@@ -124,6 +152,24 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewListResponse>>> getMyReviewsByCursor(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.atInfo()
+                .setMessage("작성한 리뷰 커서 조회 요청")
+                .addKeyValue("userId", user.getId())
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        CursorPageResponse<ReviewListResponse> response =
+                reviewSearchService.getMyReviewsByCursor(user.getId(), cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/users/{userId}")
     public ResponseEntity<ApiResponse<Page<ReviewListResponse>>> getUserReviews(
             @PathVariable @Positive Long userId,
@@ -145,6 +191,30 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/users/{userId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewListResponse>>> getUserReviewsByCursor(
+            @PathVariable @Positive Long userId,
+            @AuthenticationPrincipal User currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.atInfo()
+                .setMessage("특정 사용자 리뷰 커서 조회 요청")
+                .addKeyValue("targetUserId", userId)
+                .addKeyValue("currentUserId", currentUser != null ? currentUser.getId() : null)
+                .addKeyValue("cursor", cursor)
+                .log();
+
+        CursorPageResponse<ReviewListResponse> response = reviewSearchService.getUserReviewsByCursor(
+                userId,
+                currentUser != null ? currentUser.getId() : null,
+                cursor,
+                size
+        );
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @GetMapping("/{reviewId}")
     public ResponseEntity<ApiResponse<ReviewFeedResponse>> getReviewDetail(
             @PathVariable @Positive Long reviewId,
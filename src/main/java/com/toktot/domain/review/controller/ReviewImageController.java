@@ -4,11 +4,15 @@ import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
 import com.toktot.domain.review.dto.ReviewImageDTO;
 import com.toktot.domain.review.dto.ReviewSessionDTO;
+import com.toktot.domain.review.dto.request.PresignedImageConfirmRequest;
+import com.toktot.domain.review.dto.request.PresignedImageUploadRequest;
 import com.toktot.domain.review.service.ReviewImageService;
 import com.toktot.domain.user.User;
 import com.toktot.web.dto.ApiResponse;
 import com.toktot.domain.review.dto.response.create.ImageUploadResponse;
+import com.toktot.domain.review.dto.response.create.PresignedImageUploadResponse;
 import com.toktot.domain.review.dto.response.create.SessionInfoResponse;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +52,40 @@ public class ReviewImageController {
         return ResponseEntity.ok(ApiResponse.success("이미지 업로드가 완료되었습니다.", response));
     }
 
+    @PostMapping("/presigned")
+    public ResponseEntity<ApiResponse<List<PresignedImageUploadResponse>>> issuePresignedUploads(
+            @Valid @RequestBody PresignedImageUploadRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        log.debug("Presigned upload request - user.id: {}, restaurant.id: {}, files.size: {}",
+                user.getId(), request.id(), request.files().size());
+
+        List<PresignedImageUploadResponse> response = reviewImageService
+                .issuePresignedUploads(request.files(), user.getId(), request.id())
+                .stream()
+                .map(PresignedImageUploadResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success("이미지 업로드 URL이 발급되었습니다.", response));
+    }
+
+    @PostMapping("/confirm")
+    public ResponseEntity<ApiResponse<ImageUploadResponse>> confirmPresignedUploads(
+            @Valid @RequestBody PresignedImageConfirmRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        log.debug("Presigned upload confirm request - user.id: {}, restaurant.id: {}, imageIds.size: {}",
+                user.getId(), request.id(), request.imageIds().size());
+
+        List<ReviewImageDTO> uploadedImages =
+                reviewImageService.confirmPresignedUploads(request.imageIds(), user.getId(), request.id());
+
+        ReviewSessionDTO session = reviewImageService.getCurrentSession(user.getId(), request.id());
+        ImageUploadResponse response = ImageUploadResponse.from(uploadedImages, session);
+
+        return ResponseEntity.ok(ApiResponse.success("이미지 업로드가 완료되었습니다.", response));
+    }
+
     @DeleteMapping("/{imageId}")
     public ResponseEntity<ApiResponse<SessionInfoResponse>> deleteImage(
             @PathVariable String imageId,
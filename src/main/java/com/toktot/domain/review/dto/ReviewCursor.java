@@ -0,0 +1,82 @@
+package com.toktot.domain.review.dto;
+
+import com.toktot.common.exception.ErrorCode;
+import com.toktot.common.exception.ToktotException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record ReviewCursor(
+        String sortKey,
+        String sortValue,
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+    private static final String DELIMITER_REGEX = "\\|";
+
+    public static ReviewCursor of(String sortKey, Object sortValue, LocalDateTime createdAt, Long id) {
+        String serializedValue = sortValue instanceof BigDecimal decimal
+                ? decimal.toPlainString()
+                : sortValue != null ? String.valueOf(sortValue) : "";
+        return new ReviewCursor(sortKey, serializedValue, createdAt, id);
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER_REGEX, -1);
+
+            return new ReviewCursor(
+                    parts[0],
+                    parts[1],
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (RuntimeException e) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + sortValue + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void validateSortKey(String expectedSortKey) {
+        if (!expectedSortKey.equals(sortKey)) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "커서의 정렬 기준이 요청과 일치하지 않습니다.");
+        }
+    }
+
+    public Integer sortValueAsInteger() {
+        try {
+            return Integer.parseInt(sortValue);
+        } catch (NumberFormatException e) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public Double sortValueAsDouble() {
+        try {
+            return Double.parseDouble(sortValue);
+        } catch (NumberFormatException e) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public BigDecimal sortValueAsBigDecimal() {
+        try {
+            return new BigDecimal(sortValue);
+        } catch (NumberFormatException e) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "커서 값이 올바르지 않습니다.");
+        }
+    }
+}
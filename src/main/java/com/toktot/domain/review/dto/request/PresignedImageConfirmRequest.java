@@ -0,0 +1,19 @@
+package com.toktot.domain.review.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record PresignedImageConfirmRequest(
+        @JsonProperty(value = "id", required = true)
+        @NotNull(message = "가게를 선택해주세요.")
+        @Positive(message = "가게를 선택해주세요.")
+        Long id,
+
+        @JsonProperty(value = "image_ids", required = true)
+        @NotEmpty(message = "업로드 완료된 이미지를 선택해주세요.")
+        @Size(max = 5, message = "한 번에 최대 5개의 파일만 업로드 가능합니다.")
+        List<@NotBlank String> imageIds
+) {
+}
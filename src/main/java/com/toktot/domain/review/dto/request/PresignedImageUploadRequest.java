@@ -0,0 +1,37 @@
+package com.toktot.domain.review.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.util.List;
+
+public record PresignedImageUploadRequest(
+        @JsonProperty(value = "id", required = true)
+        @NotNull(message = "가게를 선택해주세요.")
+        @Positive(message = "가게를 선택해주세요.")
+        Long id,
+
+        @JsonProperty(value = "files", required = true)
+        @NotEmpty(message = "업로드할 파일을 선택해주세요.")
+        @Size(max = 5, message = "한 번에 최대 5개의 파일만 업로드 가능합니다.")
+        @Valid
+        List<PresignedImageFileRequest> files
+) {
+
+    public record PresignedImageFileRequest(
+            @JsonProperty(value = "file_name", required = true)
+            @NotBlank(message = "올바른 파일명이 필요합니다.")
+            String fileName,
+
+            @JsonProperty(value = "content_type", required = true)
+            @NotBlank(message = "JPEG, PNG 파일만 업로드 가능합니다.")
+            String contentType,
+
+            @JsonProperty(value = "file_size", required = true)
+            @NotNull(message = "파일 크기가 필요합니다.")
+            @Positive(message = "빈 파일은 업로드할 수 없습니다.")
+            Long fileSize
+    ) {
+    }
+}
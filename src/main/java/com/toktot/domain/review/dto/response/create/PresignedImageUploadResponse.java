@@ -0,0 +1,38 @@
+package com.toktot.domain.review.dto.response.create;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.toktot.domain.review.service.ReviewS3StorageService;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record PresignedImageUploadResponse(
+        @JsonProperty("image_id")
+        String imageId,
+
+        @JsonProperty("upload_url")
+        String uploadUrl,
+
+        @JsonProperty("method")
+        String method,
+
+        @JsonProperty("headers")
+        Map<String, String> headers,
+
+        @JsonProperty("expires_at")
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime expiresAt
+) {
+    public static PresignedImageUploadResponse from(ReviewS3StorageService.PresignedUploadResult result) {
+        return PresignedImageUploadResponse.builder()
+                .imageId(result.getImageId())
+                .uploadUrl(result.getUploadUrl())
+                .method("PUT")
+                .headers(result.getRequiredHeaders())
+                .expiresAt(result.getExpiresAt())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 public record ReviewFeedImageResponse(
         String imageId,
         String imageUrl,
+        String originalImageUrl,
         Integer imageOrder,
         Boolean isMain,
         List<FeedTooltipResponse> tooltips
@@ -21,7 +22,8 @@ public record ReviewFeedImageResponse(
 
         return ReviewFeedImageResponse.builder()
                 .imageId(reviewImage.getImageId())
-                .imageUrl(reviewImage.getImageUrl())
+                .imageUrl(reviewImage.resolveMediumUrl())
+                .originalImageUrl(reviewImage.getImageUrl())
                 .imageOrder(reviewImage.getImageOrder())
                 .isMain(reviewImage.getIsMain())
                 .tooltips(tooltips)
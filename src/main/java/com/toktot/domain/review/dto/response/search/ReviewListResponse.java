@@ -23,8 +23,8 @@ public record ReviewListResponse(
         String mainImageUrl = review.getImages().stream()
                 .filter(ReviewImage::getIsMain)
                 .findFirst()
-                .map(ReviewImage::getImageUrl)
-                .orElse(review.getImages().isEmpty() ? null : review.getImages().stream().toList().getFirst().getImageUrl());
+                .map(ReviewImage::resolveThumbnailUrl)
+                .orElse(review.getImages().isEmpty() ? null : review.getImages().stream().toList().getFirst().resolveThumbnailUrl());
 
         return ReviewListResponse.builder()
                 .id(review.getId())
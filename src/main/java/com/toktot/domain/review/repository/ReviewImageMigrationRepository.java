@@ -0,0 +1,32 @@
+package com.toktot.domain.review.repository;
+
+import com.toktot.domain.review.ReviewImageMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewImageMigrationRepository extends JpaRepository<ReviewImageMigration, Long> {
+
+    @Query(value = """
+        SELECT *
+        FROM review_image_migrations
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<ReviewImageMigration> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE ReviewImageMigration m SET m.nextAttemptAt = :leaseUntil WHERE m.id IN :ids")
+    void extendLease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("SELECT m.sourceKey FROM ReviewImageMigration m WHERE m.sourceKey IN :sourceKeys")
+    List<String> findSourceKeysIn(@Param("sourceKeys") Collection<String> sourceKeys);
+}
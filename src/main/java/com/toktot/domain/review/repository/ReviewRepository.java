@@ -2,6 +2,7 @@ package com.toktot.domain.review.repository;
 
 import com.toktot.domain.review.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,4 +22,50 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     @Query("SELECT r.user.id, COUNT(r) FROM Review r WHERE r.user.id IN :userIds GROUP BY r.user.id")
     List<Object[]> findReviewCountsByUserIds(@Param("userIds") Set<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.isHidden = true WHERE r.id = :reviewId AND r.isHidden = false")
+    int hideIfVisible(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE reviews
+        SET bookmark_count = GREATEST(bookmark_count + :delta, 0)
+        WHERE id = :reviewId
+        """, nativeQuery = true)
+    int adjustBookmarkCount(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = """
+        UPDATE reviews
+        SET average_rating = COALESCE((
+            SELECT ROUND(AVG(t.rating), 2)
+            FROM tooltips t
+            JOIN review_images ri ON ri.id = t.review_image_id
+            WHERE ri.review_id = :reviewId
+        ), 0)
+        WHERE id = :reviewId
+        """, nativeQuery = true)
+    int refreshAverageRating(@Param("reviewId") Long reviewId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE reviews r
+        SET bookmark_count = s.bookmark_count,
+            average_rating = s.average_rating
+        FROM (
+            SELECT r2.id,
+                   (SELECT COUNT(*) FROM folder_reviews fr WHERE fr.review_id = r2.id) AS bookmark_count,
+                   COALESCE((
+                       SELECT ROUND(AVG(t.rating), 2)
+                       FROM tooltips t
+                       JOIN review_images ri ON ri.id = t.review_image_id
+                       WHERE ri.review_id = r2.id
+                   ), 0) AS average_rating
+            FROM reviews r2
+        ) s
+        WHERE s.id = r.id
+          AND (r.bookmark_count <> s.bookmark_count OR r.average_rating <> s.average_rating)
+        """, nativeQuery = true)
+    int reconcileSortKeys();
 }
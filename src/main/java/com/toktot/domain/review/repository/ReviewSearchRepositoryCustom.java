@@ -1,11 +1,13 @@
 package com.toktot.domain.review.repository;
 
 import com.toktot.domain.localfood.LocalFoodType;
+import com.toktot.domain.review.dto.ReviewCursor;
 import com.toktot.domain.review.dto.response.search.RestaurantDetailReviewResponse;
 import com.toktot.domain.review.dto.response.search.RestaurantReviewStatisticsResponse;
 import com.toktot.domain.review.dto.response.search.ReviewFeedResponse;
 import com.toktot.domain.review.dto.response.search.ReviewListResponse;
 import com.toktot.domain.search.type.SortType;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.web.dto.request.SearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -44,4 +46,23 @@ public interface ReviewSearchRepositoryCustom {
 
     Page<ReviewListResponse> findUserReviews(Long targetUserId, Long currentUserId, Pageable pageable);
 
-    Optional<ReviewFeedResponse> findReviewDetailById(Long reviewId, Long currentUserId);}
+    Optional<ReviewFeedResponse> findReviewDetailById(Long reviewId, Long currentUserId);
+
+    CursorPageResponse<ReviewFeedResponse> findReviewFeedByCursor(SearchCriteria criteria, Long currentUserId,
+                                                                  List<Long> blockedUserIds,
+                                                                  ReviewCursor cursor, int size);
+
+    CursorPageResponse<ReviewListResponse> findSavedReviewsByCursor(Long userId, Long folderId,
+                                                                    List<Long> blockedUserIds,
+                                                                    ReviewCursor cursor, int size);
+
+    CursorPageResponse<ReviewListResponse> findMyReviewsByCursor(Long userId, ReviewCursor cursor, int size);
+
+    CursorPageResponse<ReviewListResponse> findUserReviewsByCursor(Long targetUserId, Long currentUserId,
+                                                                   ReviewCursor cursor, int size);
+
+    CursorPageResponse<RestaurantDetailReviewResponse> findRestaurantReviewsByCursor(Long restaurantId, Long reviewId,
+                                                                                     SortType sortType, Long currentUserId,
+                                                                                     List<Long> blockedUserIds,
+                                                                                     ReviewCursor cursor, int size);
+}
@@ -2,22 +2,29 @@ package com.toktot.domain.review.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.toktot.common.util.DistanceCalculator;
+import com.toktot.common.util.GeoHashUtil;
 import com.toktot.domain.folder.QFolderReview;
 import com.toktot.domain.localfood.LocalFoodType;
 import com.toktot.domain.review.QReview;
 import com.toktot.domain.review.Review;
+import com.toktot.domain.review.dto.ReviewCursor;
 import com.toktot.domain.review.dto.response.search.*;
 import com.toktot.domain.review.type.KeywordType;
 import com.toktot.domain.review.type.TooltipType;
 import com.toktot.domain.search.type.SortType;
 import com.toktot.domain.user.User;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.web.dto.request.SearchCriteria;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -29,6 +36,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.toktot.domain.folder.QFolderReview.folderReview;
@@ -43,6 +51,10 @@ import static com.toktot.domain.user.QUser.user;
 @RequiredArgsConstructor
 public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom {
 
+    private static final String LATEST_SORT_KEY = "LATEST";
+    private static final double NEAREST_PROBE_INITIAL_KM = 1;
+    private static final double NEAREST_PROBE_GROWTH = 4;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -50,64 +62,27 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
                                                              List<Long> blockedUserIds, Pageable pageable) {
         BooleanBuilder builder = buildCommonWhereClause(criteria, blockedUserIds);
 
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .where(builder)
-                .orderBy(buildOrderSpecifiers(criteria))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<Long> reviewIds = findReviewIdPage(
+                narrowToNearest(builder, criteria, pageable.getOffset() + pageable.getPageSize()),
+                buildOrderSpecifiers(criteria), pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, false);
 
         List<ReviewListResponse> content = convertToReviewListResponses(reviews, currentUserId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
     public Page<ReviewListResponse> findSavedReviews(Long userId, Long folderId,
                                                      List<Long> blockedUserIds, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = buildSavedReviewsCondition(userId, folderId, blockedUserIds);
 
-        if (!blockedUserIds.isEmpty()) {
-            builder.and(review.user.id.notIn(blockedUserIds));
-        }
-
-        QFolderReview fr = folderReview;
-        builder.and(JPAExpressions
-                .selectOne()
-                .from(fr)
-                .where(fr.review.id.eq(review.id)
-                        .and(fr.folder.user.id.eq(userId))
-                        .and(folderId != null ? fr.folder.id.eq(folderId) : null))
-                .exists());
-
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .where(builder)
-                .orderBy(review.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<Long> reviewIds = findReviewIdPage(builder, new OrderSpecifier[]{review.createdAt.desc()}, pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, false);
 
         List<ReviewListResponse> content = convertToReviewListResponses(reviews, userId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
@@ -115,25 +90,12 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(review.user.id.eq(userId));
 
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .where(builder)
-                .orderBy(review.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<Long> reviewIds = findReviewIdPage(builder, new OrderSpecifier[]{review.createdAt.desc()}, pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, false);
 
         List<ReviewListResponse> content = convertToReviewListResponses(reviews, userId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
@@ -143,25 +105,12 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         builder.and(review.user.id.eq(targetUserId));
         builder.and(review.isHidden.eq(false));
 
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .where(builder)
-                .orderBy(review.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<Long> reviewIds = findReviewIdPage(builder, new OrderSpecifier[]{review.createdAt.desc()}, pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, false);
 
         List<ReviewListResponse> content = convertToReviewListResponses(reviews, currentUserId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
@@ -175,29 +124,12 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
             builder.and(review.user.id.notIn(blockedUserIds));
         }
 
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .leftJoin(reviewImage.tooltips, tooltip).fetchJoin()
-                .leftJoin(review.keywords, reviewKeyword).fetchJoin()
-                .where(builder)
-                .orderBy(buildRestaurantReviewOrder(sortType, reviewId))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch()
-                .stream().distinct().toList();
+        List<Long> reviewIds = findReviewIdPage(builder, buildRestaurantReviewOrder(sortType, reviewId), pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, true);
 
         List<RestaurantDetailReviewResponse> content = convertToRestaurantDetailResponses(reviews, currentUserId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.countDistinct())
-                .from(review)
-                .leftJoin(review.keywords, reviewKeyword)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
@@ -205,31 +137,14 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
                                                    List<Long> blockedUserIds, Pageable pageable) {
         BooleanBuilder builder = buildCommonWhereClause(criteria, blockedUserIds);
 
-        List<Review> reviews = queryFactory
-                .selectFrom(review)
-                .join(review.user, user).fetchJoin()
-                .join(review.restaurant, restaurant).fetchJoin()
-                .leftJoin(review.images, reviewImage).fetchJoin()
-                .leftJoin(reviewImage.tooltips, tooltip).fetchJoin()
-                .leftJoin(review.keywords, reviewKeyword).fetchJoin()
-                .where(builder)
-                .orderBy(buildOrderSpecifiers(criteria))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch()
-                .stream().distinct().toList();
+        List<Long> reviewIds = findReviewIdPage(
+                narrowToNearest(builder, criteria, pageable.getOffset() + pageable.getPageSize()),
+                buildOrderSpecifiers(criteria), pageable);
+        List<Review> reviews = findReviewsWithDetails(reviewIds, true);
 
         List<ReviewFeedResponse> content = convertToReviewFeedResponses(reviews, currentUserId);
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(review.countDistinct())
-                .from(review)
-                .leftJoin(review.keywords, reviewKeyword)
-                .leftJoin(review.images, reviewImage)
-                .leftJoin(reviewImage.tooltips, tooltip)
-                .where(builder);
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(content, pageable, buildReviewCountQuery(builder)::fetchOne);
     }
 
     @Override
@@ -310,7 +225,7 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         BooleanBuilder builder = new BooleanBuilder();
 
         builder.and(tooltip.tooltipType.eq(TooltipType.FOOD))
-                .and(tooltip.menuName.isNotNull())
+                .and(tooltip.localFoodType.eq(localFoodType))
                 .and(tooltip.totalPrice.isNotNull())
                 .and(tooltip.servingSize.isNotNull())
                 .and(tooltip.servingSize.gt(0))
@@ -321,13 +236,7 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         }
 
         if (criteria.hasLocationFilter()) {
-            double radiusInDegrees = criteria.radius() / 111320.0;
-            builder.and(restaurant.latitude.between(
-                            criteria.latitude() - radiusInDegrees,
-                            criteria.latitude() + radiusInDegrees))
-                    .and(restaurant.longitude.between(
-                            criteria.longitude() - radiusInDegrees,
-                            criteria.longitude() + radiusInDegrees));
+            builder.and(buildWithinRadiusCondition(criteria));
         }
 
         if (criteria.hasRatingFilter()) {
@@ -338,18 +247,22 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
             builder.and(review.mealTime.eq(criteria.mealTime()));
         }
 
-        List<Review> reviews = queryFactory
-                .select(review).distinct()
+        List<Long> pageReviewIds = queryFactory
+                .select(review.id, review.createdAt).distinct()
                 .from(tooltip)
                 .join(tooltip.reviewImage, reviewImage)
                 .join(reviewImage.review, review)
                 .join(review.restaurant, restaurant)
-                .join(review.user, user)
                 .where(builder)
-                .orderBy(review.createdAt.desc())
+                .orderBy(review.createdAt.desc(), review.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch();
+                .fetch()
+                .stream()
+                .map(row -> row.get(review.id))
+                .toList();
+
+        List<Review> reviews = findReviewsWithDetails(pageReviewIds, false);
 
         long total = queryFactory
                 .select(review.countDistinct())
@@ -453,6 +366,263 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         return Optional.of(response);
     }
 
+    @Override
+    public CursorPageResponse<ReviewFeedResponse> findReviewFeedByCursor(SearchCriteria criteria, Long currentUserId,
+                                                                         List<Long> blockedUserIds,
+                                                                         ReviewCursor cursor, int size) {
+        SortType sortType = resolveCursorSortType(criteria.sort(), criteria);
+        ReviewIdSlice slice = findReviewIdSlice(
+                buildCommonWhereClause(criteria, blockedUserIds), sortType, criteria, cursor, size);
+
+        List<Review> reviews = findReviewsWithDetails(slice.reviewIds(), true);
+
+        return CursorPageResponse.of(convertToReviewFeedResponses(reviews, currentUserId), slice.nextCursor());
+    }
+
+    @Override
+    public CursorPageResponse<ReviewListResponse> findSavedReviewsByCursor(Long userId, Long folderId,
+                                                                           List<Long> blockedUserIds,
+                                                                           ReviewCursor cursor, int size) {
+        ReviewIdSlice slice = findReviewIdSlice(
+                buildSavedReviewsCondition(userId, folderId, blockedUserIds), null, null, cursor, size);
+
+        List<Review> reviews = findReviewsWithDetails(slice.reviewIds(), false);
+
+        return CursorPageResponse.of(convertToReviewListResponses(reviews, userId), slice.nextCursor());
+    }
+
+    @Override
+    public CursorPageResponse<ReviewListResponse> findMyReviewsByCursor(Long userId, ReviewCursor cursor, int size) {
+        ReviewIdSlice slice = findReviewIdSlice(review.user.id.eq(userId), null, null, cursor, size);
+
+        List<Review> reviews = findReviewsWithDetails(slice.reviewIds(), false);
+
+        return CursorPageResponse.of(convertToReviewListResponses(reviews, userId), slice.nextCursor());
+    }
+
+    @Override
+    public CursorPageResponse<ReviewListResponse> findUserReviewsByCursor(Long targetUserId, Long currentUserId,
+                                                                          ReviewCursor cursor, int size) {
+        ReviewIdSlice slice = findReviewIdSlice(
+                review.user.id.eq(targetUserId).and(review.isHidden.eq(false)), null, null, cursor, size);
+
+        List<Review> reviews = findReviewsWithDetails(slice.reviewIds(), false);
+
+        return CursorPageResponse.of(convertToReviewListResponses(reviews, currentUserId), slice.nextCursor());
+    }
+
+    @Override
+    public CursorPageResponse<RestaurantDetailReviewResponse> findRestaurantReviewsByCursor(Long restaurantId, Long reviewId,
+                                                                                            SortType sortType, Long currentUserId,
+                                                                                            List<Long> blockedUserIds,
+                                                                                            ReviewCursor cursor, int size) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(review.restaurant.id.eq(restaurantId));
+
+        if (!blockedUserIds.isEmpty()) {
+            builder.and(review.user.id.notIn(blockedUserIds));
+        }
+
+        List<Long> reviewIds = new ArrayList<>();
+        if (reviewId != null) {
+            if (cursor == null) {
+                Long pinnedReviewId = queryFactory
+                        .select(review.id)
+                        .from(review)
+                        .where(builder, review.id.eq(reviewId))
+                        .fetchFirst();
+                if (pinnedReviewId != null) {
+                    reviewIds.add(pinnedReviewId);
+                }
+            }
+            builder.and(review.id.ne(reviewId));
+        }
+
+        ReviewIdSlice slice = findReviewIdSlice(
+                builder, resolveCursorSortType(sortType, null), null, cursor, size);
+        reviewIds.addAll(slice.reviewIds());
+
+        List<Review> reviews = findReviewsWithDetails(reviewIds, true);
+
+        return CursorPageResponse.of(convertToRestaurantDetailResponses(reviews, currentUserId), slice.nextCursor());
+    }
+
+    private BooleanBuilder buildSavedReviewsCondition(Long userId, Long folderId, List<Long> blockedUserIds) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (!blockedUserIds.isEmpty()) {
+            builder.and(review.user.id.notIn(blockedUserIds));
+        }
+
+        QFolderReview fr = folderReview;
+        builder.and(JPAExpressions
+                .selectOne()
+                .from(fr)
+                .where(fr.review.id.eq(review.id)
+                        .and(fr.folder.user.id.eq(userId))
+                        .and(folderId != null ? fr.folder.id.eq(folderId) : null))
+                .exists());
+
+        return builder;
+    }
+
+    private ReviewIdSlice findReviewIdSlice(Predicate condition, SortType sortType, SearchCriteria criteria,
+                                            ReviewCursor cursor, int size) {
+        String sortKey = sortType != null ? sortType.name() : LATEST_SORT_KEY;
+        NumberExpression<?> sortExpression = buildCursorSortExpression(sortType, criteria);
+
+        BooleanBuilder builder = new BooleanBuilder(condition);
+        if (cursor != null) {
+            cursor.validateSortKey(sortKey);
+            builder.and(buildCursorCondition(sortType, criteria, cursor));
+        }
+        Predicate pageCondition = sortType == SortType.DISTANCE
+                ? narrowToNearest(builder, criteria, size + 1L)
+                : builder;
+
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+        if (sortExpression != null) {
+            orderSpecifiers.add(sortType == SortType.DISTANCE ? sortExpression.asc() : sortExpression.desc());
+        }
+        orderSpecifiers.add(review.createdAt.desc());
+        orderSpecifiers.add(review.id.desc());
+
+        Expression<?>[] projection = sortExpression != null
+                ? new Expression<?>[]{review.id, review.createdAt, sortExpression}
+                : new Expression<?>[]{review.id, review.createdAt};
+
+        List<Tuple> rows = queryFactory
+                .select(projection)
+                .from(review)
+                .join(review.restaurant, restaurant)
+                .where(pageCondition)
+                .orderBy(orderSpecifiers.toArray(OrderSpecifier[]::new))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<Long> reviewIds = pageRows.stream()
+                .map(row -> row.get(review.id))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple lastRow = pageRows.get(pageRows.size() - 1);
+            nextCursor = ReviewCursor.of(
+                    sortKey,
+                    sortExpression != null ? lastRow.get(sortExpression) : null,
+                    lastRow.get(review.createdAt),
+                    lastRow.get(review.id)
+            ).encode();
+        }
+
+        return new ReviewIdSlice(reviewIds, nextCursor);
+    }
+
+    private SortType resolveCursorSortType(SortType sortType, SearchCriteria criteria) {
+        if (sortType == SortType.DISTANCE && (criteria == null || !criteria.hasLocationFilter())) {
+            return null;
+        }
+        return sortType;
+    }
+
+    private NumberExpression<?> buildCursorSortExpression(SortType sortType, SearchCriteria criteria) {
+        if (sortType == null) {
+            return null;
+        }
+
+        return switch (sortType) {
+            case DISTANCE -> buildDistanceExpression(criteria);
+            case POPULARITY -> review.bookmarkCount;
+            case RATING -> review.averageRating;
+            case SATISFACTION -> review.valueForMoneyScore;
+        };
+    }
+
+    private BooleanExpression buildCursorCondition(SortType sortType, SearchCriteria criteria, ReviewCursor cursor) {
+        BooleanExpression afterLastRow = review.createdAt.lt(cursor.createdAt())
+                .or(review.createdAt.eq(cursor.createdAt()).and(review.id.lt(cursor.id())));
+
+        if (sortType == null) {
+            return afterLastRow;
+        }
+
+        return switch (sortType) {
+            case DISTANCE -> {
+                NumberExpression<Double> distance = buildDistanceExpression(criteria);
+                Double value = cursor.sortValueAsDouble();
+                yield distance.gt(value).or(distance.eq(value).and(afterLastRow));
+            }
+            case POPULARITY -> buildRowValueBeforeCondition(review.bookmarkCount, cursor.sortValueAsInteger(), cursor);
+            case RATING -> buildRowValueBeforeCondition(review.averageRating, cursor.sortValueAsBigDecimal(), cursor);
+            case SATISFACTION -> {
+                Integer value = cursor.sortValueAsInteger();
+                yield review.valueForMoneyScore.lt(value)
+                        .or(review.valueForMoneyScore.eq(value).and(afterLastRow));
+            }
+        };
+    }
+
+    // (정렬 키, created_at, id) 행 비교로 써야 복합 인덱스를 타고 커서 위치부터 바로 읽는다.
+    private BooleanExpression buildRowValueBeforeCondition(Expression<?> sortKey, Object sortValue,
+                                                           ReviewCursor cursor) {
+        return Expressions.booleanTemplate("({0}, {1}, {2}) < ({3}, {4}, {5})",
+                sortKey, review.createdAt, review.id,
+                Expressions.constant(sortValue), Expressions.constant(cursor.createdAt()),
+                Expressions.constant(cursor.id()));
+    }
+
+    private List<Long> findReviewIdPage(Predicate condition, OrderSpecifier<?>[] orderSpecifiers, Pageable pageable) {
+        return queryFactory
+                .select(review.id)
+                .from(review)
+                .join(review.restaurant, restaurant)
+                .where(condition)
+                .orderBy(orderSpecifiers)
+                .orderBy(review.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    private JPAQuery<Long> buildReviewCountQuery(Predicate condition) {
+        return queryFactory
+                .select(review.count())
+                .from(review)
+                .join(review.restaurant, restaurant)
+                .where(condition);
+    }
+
+    private List<Review> findReviewsWithDetails(List<Long> reviewIds, boolean withTooltipsAndKeywords) {
+        if (reviewIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        JPAQuery<Review> query = queryFactory
+                .selectFrom(review).distinct()
+                .join(review.user, user).fetchJoin()
+                .join(review.restaurant, restaurant).fetchJoin()
+                .leftJoin(review.images, reviewImage).fetchJoin();
+
+        if (withTooltipsAndKeywords) {
+            query.leftJoin(reviewImage.tooltips, tooltip).fetchJoin()
+                    .leftJoin(review.keywords, reviewKeyword).fetchJoin();
+        }
+
+        Map<Long, Review> reviewsById = query
+                .where(review.id.in(reviewIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity(), (first, second) -> first));
+
+        return reviewIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private BooleanBuilder buildCommonWhereClause(SearchCriteria criteria, List<Long> blockedUserIds) {
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -473,7 +643,7 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         }
 
         if (criteria.hasLocationFilter()) {
-            builder.and(buildDistanceExpression(criteria).loe(criteria.radius().doubleValue()));
+            builder.and(buildWithinRadiusCondition(criteria));
         }
 
         if (criteria.hasRatingFilter()) {
@@ -491,7 +661,7 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
                     .from(tooltip)
                     .where(tooltip.reviewImage.review.id.eq(review.id)
                             .and(tooltip.tooltipType.eq(TooltipType.FOOD))
-                            .and(tooltip.menuName.contains(criteria.localFoodType().getDisplayName())))
+                            .and(tooltip.localFoodType.eq(criteria.localFoodType())))
                     .exists());
         }
 
@@ -537,6 +707,48 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         return builder;
     }
 
+    private BooleanExpression buildWithinRadiusCondition(SearchCriteria criteria) {
+        return buildWithinRadiusCondition(criteria, criteria.radius() / 1000.0);
+    }
+
+    private BooleanExpression buildWithinRadiusCondition(SearchCriteria criteria, double radiusKm) {
+        DistanceCalculator.BoundingBox box = DistanceCalculator.boundingBox(
+                criteria.latitude(), criteria.longitude(), radiusKm);
+
+        BooleanExpression inCells = GeoHashUtil.coveringRanges(box).stream()
+                .map(range -> restaurant.geoHash.between(range.min(), range.max()))
+                .reduce(BooleanExpression::or)
+                .orElseThrow();
+
+        return inCells.and(buildDistanceExpression(criteria).loe(radiusKm));
+    }
+
+    // 거리순 정렬은 요청 반경 전체를 정렬하지 않고, 필요한 개수가 들어오는 가장 작은 반경으로 후보를 좁힌 뒤 정렬한다.
+    private Predicate narrowToNearest(Predicate condition, SearchCriteria criteria, long needed) {
+        if (criteria.sort() != SortType.DISTANCE || !criteria.hasLocationFilter()) {
+            return condition;
+        }
+
+        double radiusKm = criteria.radius() / 1000.0;
+        for (double probeKm = NEAREST_PROBE_INITIAL_KM; probeKm < radiusKm; probeKm *= NEAREST_PROBE_GROWTH) {
+            BooleanExpression withinProbe = buildWithinRadiusCondition(criteria, probeKm);
+            int found = queryFactory
+                    .select(review.id)
+                    .from(review)
+                    .join(review.restaurant, restaurant)
+                    .where(condition, withinProbe)
+                    .limit(needed)
+                    .fetch()
+                    .size();
+
+            if (found >= needed) {
+                return new BooleanBuilder(condition).and(withinProbe);
+            }
+        }
+
+        return condition;
+    }
+
     private NumberExpression<Double> buildDistanceExpression(SearchCriteria criteria) {
         return Expressions.numberTemplate(Double.class,
                 "6371 * acos(cos(radians({0})) * cos(radians(restaurant.latitude)) * cos(radians(restaurant.longitude) - radians({1})) + sin(radians({0})) * sin(radians(restaurant.latitude)))",
@@ -547,8 +759,8 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         if (criteria.hasSortFilter()) {
             return switch (criteria.sort()) {
                 case DISTANCE -> new OrderSpecifier[]{buildDistanceExpression(criteria).asc(), review.createdAt.desc()};
-                case POPULARITY -> new OrderSpecifier[]{buildPopularityExpression().desc(), review.createdAt.desc()};
-                case RATING -> new OrderSpecifier[]{buildRatingExpression().desc(), review.createdAt.desc()};
+                case POPULARITY -> new OrderSpecifier[]{review.bookmarkCount.desc(), review.createdAt.desc()};
+                case RATING -> new OrderSpecifier[]{review.averageRating.desc(), review.createdAt.desc()};
                 case SATISFACTION -> new OrderSpecifier[]{review.valueForMoneyScore.desc(), review.createdAt.desc()};
             };
         }
@@ -565,8 +777,8 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
 
         if (sortType != null) {
             return switch (sortType) {
-                case POPULARITY -> new OrderSpecifier[]{buildPopularityExpression().desc(), review.createdAt.desc()};
-                case RATING -> new OrderSpecifier[]{buildRatingExpression().desc(), review.createdAt.desc()};
+                case POPULARITY -> new OrderSpecifier[]{review.bookmarkCount.desc(), review.createdAt.desc()};
+                case RATING -> new OrderSpecifier[]{review.averageRating.desc(), review.createdAt.desc()};
                 case SATISFACTION -> new OrderSpecifier[]{review.valueForMoneyScore.desc(), review.createdAt.desc()};
                 default -> new OrderSpecifier[]{review.createdAt.desc()};
             };
@@ -574,24 +786,6 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
         return new OrderSpecifier[]{review.createdAt.desc()};
     }
 
-    private NumberExpression<Long> buildPopularityExpression() {
-        return Expressions.numberTemplate(Long.class, "({0})",
-                JPAExpressions
-                        .select(folderReview.count())
-                        .from(folderReview)
-                        .where(folderReview.review.eq(review))
-        );
-    }
-
-    private NumberExpression<Double> buildRatingExpression() {
-        return Expressions.numberTemplate(Double.class, "({0})",
-                JPAExpressions
-                        .select(tooltip.rating.avg())
-                        .from(tooltip)
-                        .where(tooltip.reviewImage.review.eq(review))
-        );
-    }
-
     private List<ReviewListResponse> convertToReviewListResponses(List<Review> reviews, Long currentUserId) {
         if (reviews.isEmpty()) return Collections.emptyList();
 
@@ -735,4 +929,7 @@ public class ReviewSearchRepositoryImpl implements ReviewSearchRepositoryCustom
                         }
                 ));
     }
+
+    private record ReviewIdSlice(List<Long> reviewIds, String nextCursor) {
+    }
 }
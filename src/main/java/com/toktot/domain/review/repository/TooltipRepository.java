@@ -1,7 +1,9 @@
 package com.toktot.domain.review.repository;
 
+import com.toktot.domain.localfood.LocalFoodType;
 import com.toktot.domain.review.Tooltip;
 import com.toktot.domain.review.type.TooltipType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,29 +19,27 @@ public interface TooltipRepository extends JpaRepository<Tooltip, Long> {
     List<Object[]> findAverageRatingsByUserIds(@Param("userIds") Set<Long> userIds);
 
     @Query("""
-    SELECT t FROM Tooltip t 
-    WHERE t.tooltipType = 'FOOD' 
-    AND t.menuName IS NOT NULL 
-    AND t.totalPrice IS NOT NULL 
-    AND t.servingSize IS NOT NULL 
+    SELECT DISTINCT r.restaurant.id FROM Tooltip t
+    JOIN t.reviewImage ri
+    JOIN ri.review r
+    WHERE t.tooltipType = 'FOOD'
+    AND t.localFoodType = :localFoodType
+    AND t.totalPrice IS NOT NULL
+    AND t.servingSize IS NOT NULL
     AND t.servingSize > 0
-    ORDER BY t.createdAt DESC
+    AND (t.totalPrice / t.servingSize) BETWEEN :minPrice AND :maxPrice
     """)
-    List<Tooltip> findAllFoodTooltipsWithPriceData();
+    List<Long> findRestaurantIdsByLocalFoodTypeAndPriceRange(@Param("localFoodType") LocalFoodType localFoodType,
+                                                             @Param("minPrice") Integer minPrice,
+                                                             @Param("maxPrice") Integer maxPrice);
 
     @Query("""
-    SELECT DISTINCT t FROM Tooltip t 
-    JOIN t.reviewImage ri 
-    JOIN ri.review r 
-    WHERE t.tooltipType = 'FOOD' 
-    AND t.menuName IS NOT NULL 
-    AND t.totalPrice IS NOT NULL 
-    AND t.servingSize IS NOT NULL 
-    AND t.servingSize > 0
-    AND (t.totalPrice / t.servingSize) BETWEEN :minPrice AND :maxPrice
+    SELECT t FROM Tooltip t
+    WHERE t.localFoodVersion IS NULL
+    OR t.localFoodVersion <> :version
+    ORDER BY t.id ASC
     """)
-    List<Tooltip> findFoodTooltipsByPriceRange(@Param("minPrice") Integer minPrice,
-                                               @Param("maxPrice") Integer maxPrice);
+    List<Tooltip> findUnclassifiedLocalFood(@Param("version") Integer version, Pageable pageable);
 
     @Query("SELECT t FROM Tooltip t " +
             "JOIN FETCH t.reviewImage ri " +
@@ -0,0 +1,231 @@
+package com.toktot.domain.review.service;
+
+import com.toktot.domain.folder.FolderReview;
+import com.toktot.domain.folder.repository.FolderReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularReviewRankingService {
+
+    private final FolderReviewRepository folderReviewRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String RANKING_KEY = "popular:reviews:ranking";
+    private static final String STAGING_KEY = RANKING_KEY + ":staging";
+    private static final String SNAPSHOT_KEY = RANKING_KEY + ":snapshot";
+    private static final String EPOCH_KEY = RANKING_KEY + ":epoch";
+    private static final String REBUILD_EPOCH_KEY = RANKING_KEY + ":rebuild-epoch";
+    private static final LocalDateTime LEGACY_DECAY_EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Duration HALF_LIFE = Duration.ofDays(7);
+    private static final Duration REBASE_INTERVAL = Duration.ofDays(7);
+    private static final Duration REBUILD_FENCE_TTL = Duration.ofMinutes(10);
+    private static final int MAX_RANKING_SIZE = 1_000;
+
+    // 가중치를 스크립트 안에서 저장된 기준 시각으로 계산해 기준 시각 교체와 증감이 어긋나지 않게 하고,
+    // 재구성 중이면 같은 증감을 재구성 기준 시각으로 스테이징에도 반영한다.
+    private static final RedisScript<Long> APPLY_BOOKMARKS_SCRIPT = new DefaultRedisScript<>("""
+            local halfLife = tonumber(ARGV[2])
+            local sign = tonumber(ARGV[4])
+            local function weight(epoch)
+                local total = 0
+                for i = 5, #ARGV do
+                    total = total + 2 ^ ((tonumber(ARGV[i]) - epoch) / halfLife)
+                end
+                return total
+            end
+
+            local liveEpoch = tonumber(redis.call('GET', KEYS[2])) or tonumber(ARGV[3])
+            local liveWeight = weight(liveEpoch)
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], sign * liveWeight, ARGV[1]))
+            if sign < 0 and score <= liveWeight * 1e-9 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+            end
+
+            local rebuildEpoch = tonumber(redis.call('GET', KEYS[4]))
+            if rebuildEpoch then
+                redis.call('ZINCRBY', KEYS[3], sign * weight(rebuildEpoch), ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2])
+            redis.call('DEL', KEYS[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[3])
+            else
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('SET', KEYS[4], ARGV[1])
+            redis.call('DEL', KEYS[5])
+            return 1
+            """, Long.class);
+
+    public void recordBookmarkAdded(FolderReview folderReview) {
+        Long reviewId = folderReview.getReview().getId();
+        List<LocalDateTime> bookmarkedAts = Collections.singletonList(folderReview.getCreatedAt());
+
+        runAfterCommit(() -> applyBookmarks(reviewId, bookmarkedAts, 1));
+    }
+
+    public void recordBookmarksRemoved(Collection<FolderReview> folderReviews) {
+        if (folderReviews.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<LocalDateTime>> bookmarkedAtByReviewId = new HashMap<>();
+        for (FolderReview folderReview : folderReviews) {
+            bookmarkedAtByReviewId.computeIfAbsent(folderReview.getReview().getId(), id -> new ArrayList<>())
+                    .add(folderReview.getCreatedAt());
+        }
+
+        runAfterCommit(() -> bookmarkedAtByReviewId.forEach(
+                (reviewId, bookmarkedAts) -> applyBookmarks(reviewId, bookmarkedAts, -1)));
+    }
+
+    public void removeReview(Long reviewId) {
+        runAfterCommit(() -> {
+            String member = String.valueOf(reviewId);
+            redisTemplate.opsForZSet().remove(RANKING_KEY, member);
+            redisTemplate.opsForZSet().remove(STAGING_KEY, member);
+            redisTemplate.opsForZSet().remove(SNAPSHOT_KEY, member);
+        });
+    }
+
+    public List<Long> findTopReviewIds(int count) {
+        try {
+            Set<String> reviewIds = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, count - 1);
+            if (reviewIds == null || reviewIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            return reviewIds.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.error("인기 리뷰 랭킹 조회 실패", e);
+            return Collections.emptyList();
+        }
+    }
+
+    public boolean isInitialized() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(RANKING_KEY));
+    }
+
+    public boolean needsRebase() {
+        String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+        if (epoch == null) {
+            return true;
+        }
+
+        try {
+            return fromEpochSeconds(Long.parseLong(epoch)).plus(REBASE_INTERVAL).isBefore(LocalDateTime.now());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public int rebuildRanking() {
+        // 가중치가 2^(경과시간/반감기)로 커지므로 기준 시각을 주기적으로 현재로 옮겨 점수가 정밀도를 잃지 않게 한다.
+        LocalDateTime epoch = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        String epochSeconds = String.valueOf(toEpochSeconds(epoch));
+
+        // 펜스를 세운 뒤부터 커밋되는 증감은 스테이징에도 쌓이고, 게시할 때 DB 스냅샷과 합산된다.
+        redisTemplate.delete(List.of(STAGING_KEY, SNAPSHOT_KEY));
+        redisTemplate.opsForValue().set(REBUILD_EPOCH_KEY, epochSeconds, REBUILD_FENCE_TTL);
+
+        int rankedCount;
+        try {
+            List<Object[]> scores = folderReviewRepository.findDecayedBookmarkScores(
+                    epoch, HALF_LIFE.toSeconds(), MAX_RANKING_SIZE);
+
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+            for (Object[] row : scores) {
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(row[0]), ((Number) row[1]).doubleValue()));
+            }
+
+            if (!tuples.isEmpty()) {
+                redisTemplate.opsForZSet().add(SNAPSHOT_KEY, tuples);
+            }
+            redisTemplate.execute(PUBLISH_SCRIPT,
+                    List.of(STAGING_KEY, SNAPSHOT_KEY, RANKING_KEY, EPOCH_KEY, REBUILD_EPOCH_KEY), epochSeconds);
+            rankedCount = tuples.size();
+        } catch (RuntimeException e) {
+            redisTemplate.delete(List.of(REBUILD_EPOCH_KEY, STAGING_KEY, SNAPSHOT_KEY));
+            throw e;
+        }
+
+        if (rankedCount == 0) {
+            log.info("인기 리뷰 랭킹 재구성 완료 - 저장된 리뷰 없음");
+            return 0;
+        }
+
+        log.info("인기 리뷰 랭킹 재구성 완료 - {}개 리뷰", rankedCount);
+        return rankedCount;
+    }
+
+    public long trimRanking() {
+        Long removed = redisTemplate.opsForZSet().removeRange(RANKING_KEY, 0, -(MAX_RANKING_SIZE + 1));
+        return removed != null ? removed : 0L;
+    }
+
+    private void applyBookmarks(Long reviewId, List<LocalDateTime> bookmarkedAts, int sign) {
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(reviewId),
+                String.valueOf(HALF_LIFE.toSeconds()),
+                String.valueOf(toEpochSeconds(LEGACY_DECAY_EPOCH)),
+                String.valueOf(sign)
+        ));
+        for (LocalDateTime bookmarkedAt : bookmarkedAts) {
+            args.add(String.valueOf(toEpochSeconds(bookmarkedAt != null ? bookmarkedAt : LocalDateTime.now())));
+        }
+
+        redisTemplate.execute(APPLY_BOOKMARKS_SCRIPT,
+                List.of(RANKING_KEY, EPOCH_KEY, STAGING_KEY, REBUILD_EPOCH_KEY), args.toArray());
+    }
+
+    private long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private LocalDateTime fromEpochSeconds(long epochSeconds) {
+        return LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        Runnable safeAction = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("인기 리뷰 랭킹 갱신 실패", e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeAction.run();
+            }
+        });
+    }
+}
@@ -1,8 +1,5 @@
 package com.toktot.domain.review.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toktot.domain.block.UserBlockRepository;
 import com.toktot.domain.folder.repository.FolderReviewRepository;
 import com.toktot.domain.review.Review;
@@ -15,13 +12,12 @@ import com.toktot.domain.review.repository.TooltipRepository;
 import com.toktot.domain.user.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,64 +33,41 @@ public class PopularReviewService {
     private final ReviewRepository reviewRepository;
     private final TooltipRepository tooltipRepository;
     private final UserBlockRepository userBlockRepository;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final PopularReviewRankingService popularReviewRankingService;
 
-    private static final String POPULAR_REVIEWS_KEY = "popular:reviews";
     private static final int POPULAR_REVIEW_COUNT = 15;
 
     public List<PopularReviewResponse> getPopularReviewsForUser(Long currentUserId) {
         log.info("사용자별 인기 리뷰 조회 시작 - userId: {}", currentUserId);
 
-        List<PopularReviewResponse> cachedReviews = getCachedPopularReviews();
-
-        if (cachedReviews.isEmpty()) {
-            log.warn("캐시된 인기 리뷰가 없어 DB에서 직접 조회합니다.");
-            return fetchAndMapPopularReviews(currentUserId);
+        List<Long> popularReviewIds = popularReviewRankingService.findTopReviewIds(POPULAR_REVIEW_COUNT);
+        if (popularReviewIds.isEmpty()) {
+            log.warn("인기 리뷰 랭킹이 비어있습니다.");
+            return Collections.emptyList();
         }
 
-        return applyUserContextToCachedReviews(cachedReviews, currentUserId);
-    }
-
-    public List<PopularReviewResponse> getPopularReviews() {
-        log.info("스케줄러용 인기 리뷰 조회 시작");
-        return fetchAndMapPopularReviews(null);
-    }
-
-    private List<PopularReviewResponse> applyUserContextToCachedReviews(List<PopularReviewResponse> cachedReviews, Long currentUserId) {
         List<Long> blockedUserIds = getBlockedUserIds(currentUserId);
-        List<PopularReviewResponse> filteredReviews = cachedReviews.stream()
-                .filter(review -> !blockedUserIds.contains(review.author().id()))
+        List<Review> reviews = reviewRepository.findWithDetailsByIds(popularReviewIds).stream()
+                .filter(review -> !review.getIsHidden())
+                .filter(review -> !blockedUserIds.contains(review.getUser().getId()))
+                .sorted(Comparator.comparingInt(review -> popularReviewIds.indexOf(review.getId())))
                 .toList();
 
-        if (filteredReviews.isEmpty()) {
+        if (reviews.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<PopularReviewResponse> finalReviews = updateBookmarkStatus(filteredReviews, currentUserId);
-
-        log.info("캐시 기반 사용자별 리뷰 필터링 완료 - 원본: {}개, 최종: {}개", cachedReviews.size(), finalReviews.size());
-        return finalReviews;
-    }
-
-    private List<PopularReviewResponse> fetchAndMapPopularReviews(Long currentUserId) {
-        List<Long> popularReviewIds = folderReviewRepository.findPopularReviewIds(PageRequest.of(0, POPULAR_REVIEW_COUNT));
-        if (popularReviewIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        List<Review> reviews = reviewRepository.findWithDetailsByIds(popularReviewIds);
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
         Set<Long> userIds = reviews.stream()
                 .map(review -> review.getUser().getId())
                 .collect(Collectors.toSet());
 
-        Map<Long, Double> averageRatingsByReviewId = getAverageRatingsByReviewId(popularReviewIds);
+        Map<Long, Double> averageRatingsByReviewId = getAverageRatingsByReviewId(reviewIds);
         Map<Long, Long> reviewCountsByUserId = getReviewCountsByUserId(userIds);
         Map<Long, BigDecimal> averageRatingsByUserId = getAverageRatingsByUserId(userIds);
-        Set<Long> bookmarkedReviewIds = getBookmarkedReviewIds(popularReviewIds, currentUserId);
+        Set<Long> bookmarkedReviewIds = getBookmarkedReviewIds(reviewIds, currentUserId);
 
-        return reviews.stream()
-                .filter(review -> !review.getIsHidden())
+        List<PopularReviewResponse> popularReviews = reviews.stream()
                 .map(review -> createPopularReviewResponse(
                         review,
                         averageRatingsByReviewId,
@@ -103,40 +76,9 @@ public class PopularReviewService {
                         bookmarkedReviewIds.contains(review.getId())
                 ))
                 .toList();
-    }
 
-    private List<PopularReviewResponse> getCachedPopularReviews() {
-        try {
-            String cachedJson = redisTemplate.opsForValue().get(POPULAR_REVIEWS_KEY);
-            if (cachedJson == null || cachedJson.isBlank()) {
-                log.debug("캐시된 인기 리뷰가 없습니다.");
-                return Collections.emptyList();
-            }
-            List<PopularReviewResponse> reviews = objectMapper.readValue(cachedJson, new TypeReference<>() {});
-            log.debug("캐시에서 인기 리뷰 {}개 조회", reviews.size());
-            return reviews;
-        } catch (JsonProcessingException e) {
-            log.error("캐시된 인기 리뷰 역직렬화 실패. 캐시를 비우고 DB 조회를 유도합니다.", e);
-            return Collections.emptyList();
-        } catch (Exception e) {
-            log.error("캐시 조회 중 예기치 않은 오류 발생", e);
-            return Collections.emptyList();
-        }
-    }
-
-    private List<PopularReviewResponse> updateBookmarkStatus(List<PopularReviewResponse> reviews, Long currentUserId) {
-        if (currentUserId == null) {
-            return reviews.stream()
-                    .map(review -> review.withIsBookmarked(false))
-                    .toList();
-        }
-
-        List<Long> reviewIds = reviews.stream().map(PopularReviewResponse::id).toList();
-        Set<Long> bookmarkedReviewIds = getBookmarkedReviewIds(reviewIds, currentUserId);
-
-        return reviews.stream()
-                .map(review -> review.withIsBookmarked(bookmarkedReviewIds.contains(review.id())))
-                .toList();
+        log.info("인기 리뷰 조회 완료 - 랭킹: {}개, 최종: {}개", popularReviewIds.size(), popularReviews.size());
+        return popularReviews;
     }
 
     private List<Long> getBlockedUserIds(Long currentUserId) {
@@ -197,7 +139,7 @@ public class PopularReviewService {
         return images.stream()
                 .filter(ReviewImage::getIsMain)
                 .findFirst()
-                .map(ReviewImage::getImageUrl)
+                .map(ReviewImage::resolveMediumUrl)
                 .orElse(null);
     }
 
@@ -2,11 +2,13 @@ package com.toktot.domain.review.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.external.S3TransferExecutor;
 import com.toktot.domain.review.Review;
 import com.toktot.domain.review.ReviewImage;
 import com.toktot.domain.review.Tooltip;
 import com.toktot.domain.review.dto.ReviewImageDTO;
 import com.toktot.domain.review.dto.ReviewSessionDTO;
+import com.toktot.domain.review.dto.request.PresignedImageUploadRequest;
 import com.toktot.domain.review.dto.request.ReviewImageRequest;
 import com.toktot.domain.review.dto.request.TooltipRequest;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -28,16 +33,25 @@ public class ReviewImageService {
 
     private final ReviewS3StorageService reviewS3StorageService;
     private final ReviewSessionService reviewSessionService;
+    private final S3TransferExecutor s3TransferExecutor;
 
     private static final int MAX_IMAGES = 5;
 
     public List<ReviewImageDTO> uploadImages(List<MultipartFile> files, Long userId, Long restaurantId) {
+        validateRemainingSlots(files.size(), userId, restaurantId);
+
+        List<Callable<ReviewS3StorageService.S3UploadResult>> uploadTasks = files.stream()
+                .<Callable<ReviewS3StorageService.S3UploadResult>>map(file ->
+                        () -> reviewS3StorageService.uploadTempImage(file, userId, restaurantId))
+                .toList();
+
+        List<ReviewS3StorageService.S3UploadResult> uploadResults = s3TransferExecutor.invokeAll(uploadTasks,
+                uploadResult -> reviewS3StorageService.deleteTempImage(uploadResult.getS3Key()));
+
         List<ReviewImageDTO> uploadedImages = new ArrayList<>();
-        List<String> uploadedS3Keys = new ArrayList<>();
 
-        for (MultipartFile file : files) {
-            ReviewS3StorageService.S3UploadResult uploadResult =
-                    reviewS3StorageService.uploadTempImage(file, userId, restaurantId);
+        for (int i = 0; i < uploadResults.size(); i++) {
+            ReviewS3StorageService.S3UploadResult uploadResult = uploadResults.get(i);
 
             ReviewImageDTO imageDTO = ReviewImageDTO.create(
                     uploadResult.getImageId(),
@@ -49,12 +63,13 @@ public class ReviewImageService {
 
             boolean added = reviewSessionService.tryAddImageToSession(userId, restaurantId, imageDTO);
             if (!added) {
-                reviewS3StorageService.deleteTempImage(uploadResult.getS3Key());
+                reviewS3StorageService.deleteTempImages(uploadResults.subList(i, uploadResults.size()).stream()
+                        .map(ReviewS3StorageService.S3UploadResult::getS3Key)
+                        .toList());
                 throw new ToktotException(ErrorCode.OPERATION_NOT_ALLOWED, "이미지는 최대 " + MAX_IMAGES + "개까지만 업로드 가능합니다.");
             }
 
             uploadedImages.add(imageDTO);
-            uploadedS3Keys.add(uploadResult.getS3Key());
         }
 
         log.info("Image upload completed - user.id: {}, restaurant.id: {}, count: {}",
@@ -62,6 +77,82 @@ public class ReviewImageService {
         return uploadedImages;
     }
 
+    public List<ReviewS3StorageService.PresignedUploadResult> issuePresignedUploads(
+            List<PresignedImageUploadRequest.PresignedImageFileRequest> files, Long userId, Long restaurantId) {
+        validateRemainingSlots(files.size(), userId, restaurantId);
+
+        List<ReviewS3StorageService.PresignedUploadResult> presignedUploads = new ArrayList<>();
+        for (PresignedImageUploadRequest.PresignedImageFileRequest file : files) {
+            ReviewS3StorageService.PresignedUploadResult presigned = reviewS3StorageService.presignTempImageUpload(
+                    file.fileName(), file.contentType(), file.fileSize(), userId, restaurantId);
+
+            reviewSessionService.savePendingUpload(userId, restaurantId, ReviewImageDTO.create(
+                    presigned.getImageId(),
+                    presigned.getS3Key(),
+                    presigned.getImageUrl(),
+                    presigned.getFileSize(),
+                    0
+            ));
+            presignedUploads.add(presigned);
+        }
+
+        log.info("Presigned upload issued - user.id: {}, restaurant.id: {}, count: {}",
+                userId, restaurantId, presignedUploads.size());
+        return presignedUploads;
+    }
+
+    public List<ReviewImageDTO> confirmPresignedUploads(List<String> imageIds, Long userId, Long restaurantId) {
+        Map<String, ReviewImageDTO> sessionImages = reviewSessionService.getSession(userId, restaurantId)
+                .map(session -> session.getImages().stream()
+                        .collect(Collectors.toMap(ReviewImageDTO::getImageId, Function.identity())))
+                .orElse(Collections.emptyMap());
+
+        // 모든 이미지의 업로드 여부를 먼저 확인한 뒤에만 세션과 업로드 요청을 변경해 재시도해도 같은 결과가 나오게 한다.
+        List<ReviewImageDTO> newImages = new ArrayList<>();
+        for (String imageId : new LinkedHashSet<>(imageIds)) {
+            if (sessionImages.containsKey(imageId)) {
+                continue;
+            }
+
+            ReviewImageDTO pending = reviewSessionService.findPendingUpload(userId, restaurantId, imageId)
+                    .orElseThrow(() -> new ToktotException(ErrorCode.RESOURCE_NOT_FOUND, "업로드 요청을 찾을 수 없습니다."));
+
+            long uploadedSize = reviewS3StorageService.getUploadedTempImageSize(pending.getS3Key());
+            if (uploadedSize != pending.getFileSize()) {
+                reviewS3StorageService.deleteTempImage(pending.getS3Key());
+                reviewSessionService.deletePendingUploads(userId, restaurantId, List.of(imageId));
+                throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 파일 크기가 요청과 다릅니다.");
+            }
+
+            newImages.add(ReviewImageDTO.create(
+                    pending.getImageId(),
+                    pending.getS3Key(),
+                    pending.getImageUrl(),
+                    uploadedSize,
+                    0
+            ));
+        }
+
+        if (!newImages.isEmpty()) {
+            if (!reviewSessionService.tryAddImagesToSession(userId, restaurantId, newImages)) {
+                throw new ToktotException(ErrorCode.OPERATION_NOT_ALLOWED, "이미지는 최대 " + MAX_IMAGES + "개까지만 업로드 가능합니다.");
+            }
+
+            reviewSessionService.deletePendingUploads(userId, restaurantId,
+                    newImages.stream().map(ReviewImageDTO::getImageId).toList());
+        }
+
+        Map<String, ReviewImageDTO> newImagesById = newImages.stream()
+                .collect(Collectors.toMap(ReviewImageDTO::getImageId, Function.identity()));
+        List<ReviewImageDTO> confirmedImages = new LinkedHashSet<>(imageIds).stream()
+                .map(imageId -> newImagesById.getOrDefault(imageId, sessionImages.get(imageId)))
+                .toList();
+
+        log.info("Presigned upload confirmed - user.id: {}, restaurant.id: {}, count: {}, newly added: {}",
+                userId, restaurantId, confirmedImages.size(), newImages.size());
+        return confirmedImages;
+    }
+
     public void deleteImage(String imageId, Long userId, Long restaurantId) {
         ReviewSessionDTO session = reviewSessionService.getSession(userId, restaurantId)
                 .orElseThrow(() -> new ToktotException(ErrorCode.RESOURCE_NOT_FOUND, "세션을 찾을 수 없습니다."));
@@ -85,14 +176,10 @@ public class ReviewImageService {
         ReviewSessionDTO session = reviewSessionService.getSession(userId, restaurantId)
                 .orElse(null);
 
-        if (session != null && session.getImages() != null) {
-            for (ReviewImageDTO image : session.getImages()) {
-                try {
-                    reviewS3StorageService.deleteTempImage(image.getS3Key());
-                } catch (Exception e) {
-                    log.warn("Failed to delete S3 file during session clear - key: {}", image.getS3Key());
-                }
-            }
+        if (session != null && session.getImages() != null && !session.getImages().isEmpty()) {
+            reviewS3StorageService.deleteTempImages(session.getImages().stream()
+                    .map(ReviewImageDTO::getS3Key)
+                    .toList());
         }
 
         reviewSessionService.deleteSession(userId, restaurantId);
@@ -119,6 +206,16 @@ public class ReviewImageService {
         }
     }
 
+    private void validateRemainingSlots(int newImageCount, Long userId, Long restaurantId) {
+        int currentCount = reviewSessionService.getSession(userId, restaurantId)
+                .map(ReviewSessionDTO::getImageCount)
+                .orElse(0);
+
+        if (currentCount + newImageCount > MAX_IMAGES) {
+            throw new ToktotException(ErrorCode.OPERATION_NOT_ALLOWED, "이미지는 최대 " + MAX_IMAGES + "개까지만 업로드 가능합니다.");
+        }
+    }
+
     private ReviewImage createReviewImageFromRequest(ReviewImageDTO sessionImage, ReviewImageRequest reviewImageRequest, Long restaurantId, Long reviewId) {
         ReviewImage reviewImage = ReviewImage.create(
                 sessionImage.getImageId(),
@@ -1,18 +1,32 @@
 package com.toktot.domain.review.service;
 
-import com.toktot.common.exception.ErrorCode;
-import com.toktot.common.exception.ToktotException;
+import com.toktot.common.util.ImageProcessingUtil;
+import com.toktot.config.external.S3TransferExecutor;
+import com.toktot.domain.review.ReviewImageMigration;
 import com.toktot.domain.review.dto.ReviewImageDTO;
 import com.toktot.domain.review.dto.ReviewSessionDTO;
+import com.toktot.domain.review.repository.ReviewImageMigrationRepository;
+import com.toktot.domain.review.type.ReviewImageVariant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Service
@@ -20,123 +34,222 @@ import java.util.List;
 public class ReviewS3MigrationService {
 
     private final S3Client s3Client;
+    private final ReviewS3StorageService reviewS3StorageService;
+    private final ReviewImageMigrationRepository reviewImageMigrationRepository;
+    private final S3TransferExecutor s3TransferExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${toktot.s3.bucket-name}")
     private String bucketName;
 
-    @Value("${toktot.s3.region}")
-    private String region;
-
     private static final String REVIEWS_PREFIX = "reviews";
+    private static final int CLAIM_BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(30);
+    private static final Duration RETRY_MAX_DELAY = Duration.ofHours(1);
+    private static final String IMAGE_CONTENT_TYPE = "image/jpeg";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final int MAX_CONCURRENT_RESIZES = 2;
+
+    private final AtomicBoolean processing = new AtomicBoolean();
+    private final Semaphore resizePermits = new Semaphore(MAX_CONCURRENT_RESIZES);
+
+    public void enqueueSessionImages(ReviewSessionDTO session, Long reviewId) {
+        List<ReviewImageMigration> migrations = new ArrayList<>();
+
+        for (ReviewImageDTO imageDTO : session.getImages()) {
+            String targetKey = buildReviewImageKey(session.getRestaurantId(), reviewId, imageDTO.getImageId());
+            migrations.add(ReviewImageMigration.create(reviewId, imageDTO.getS3Key(), targetKey));
+        }
 
-    public void migrateSessionImages(ReviewSessionDTO session, Long reviewId) {
-        log.debug("S3 migration started - userId: {}, restaurantId: {}, reviewId: {}, imageCount: {}",
-                session.getUserId(), session.getRestaurantId(), reviewId, session.getImages().size());
+        reviewImageMigrationRepository.saveAll(migrations);
 
-        List<String> migratedKeys = new ArrayList<>();
-        List<String> originalKeys = new ArrayList<>();
+        log.debug("S3 migration enqueued - userId: {}, restaurantId: {}, reviewId: {}, imageCount: {}",
+                session.getUserId(), session.getRestaurantId(), reviewId, migrations.size());
 
-        try {
-            for (ReviewImageDTO imageDTO : session.getImages()) {
-                String originalKey = imageDTO.getS3Key();
-                String newKey = buildReviewImageKey(session.getRestaurantId(), reviewId, imageDTO.getImageId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    s3TransferExecutor.execute(() -> processDueMigrations());
+                }
+            });
+        }
+    }
 
-                log.debug("Migrating image - imageId: {}, originalKey: {}, newKey: {}",
-                        imageDTO.getImageId(), originalKey, newKey);
+    public int processDueMigrations() {
+        if (!processing.compareAndSet(false, true)) {
+            return 0;
+        }
 
-                copyS3Object(originalKey, newKey);
-                migratedKeys.add(newKey);
-                originalKeys.add(originalKey);
+        try {
+            int migrated = 0;
+            List<ReviewImageMigration> claimed;
 
-                String newUrl = buildImageUrl(session.getRestaurantId(), reviewId, imageDTO.getImageId());
-                imageDTO.setS3Key(newKey);
-                imageDTO.setImageUrl(newUrl);
+            while (!(claimed = claimDueMigrations()).isEmpty()) {
+                migrated += migrateClaimed(claimed);
             }
 
-            deleteOriginalTempFiles(originalKeys);
+            return migrated;
+        } finally {
+            processing.set(false);
+        }
+    }
 
-            log.info("S3 migration completed - userId: {}, externalKakaoId: {}, reviewId: {}, migratedImages: {}",
-                    session.getUserId(), session.getRestaurantId(), reviewId, migratedKeys.size());
+    private List<ReviewImageMigration> claimDueMigrations() {
+        List<ReviewImageMigration> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ReviewImageMigration> due = reviewImageMigrationRepository.findDueForUpdate(now, CLAIM_BATCH_SIZE);
 
-        } catch (Exception e) {
-            log.error("S3 migration failed - userId: {}, externalKakaoId: {}, reviewId: {}, error: {}",
-                    session.getUserId(), session.getRestaurantId(), reviewId, e.getMessage(), e);
+            if (!due.isEmpty()) {
+                reviewImageMigrationRepository.extendLease(
+                        due.stream().map(ReviewImageMigration::getId).toList(), now.plus(CLAIM_LEASE));
+            }
+            return due;
+        });
 
-            rollbackMigratedFiles(migratedKeys);
+        return claimed != null ? claimed : Collections.emptyList();
+    }
 
-            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR,
-                    "이미지 저장에 실패했습니다. 다시 시도해주세요.");
+    private int migrateClaimed(List<ReviewImageMigration> claimed) {
+        List<Callable<MigrationOutcome>> tasks = claimed.stream()
+                .<Callable<MigrationOutcome>>map(migration -> () -> migrate(migration))
+                .toList();
+
+        List<MigrationOutcome> outcomes = s3TransferExecutor.invokeAll(tasks, outcome -> { });
+
+        List<Long> completedIds = new ArrayList<>();
+        List<String> migratedSourceKeys = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (MigrationOutcome outcome : outcomes) {
+            if (outcome.error() == null) {
+                completedIds.add(outcome.migration().getId());
+                migratedSourceKeys.add(outcome.migration().getSourceKey());
+            } else {
+                failures.put(outcome.migration().getId(), outcome.error());
+            }
         }
-    }
 
-    private void copyS3Object(String sourceKey, String destinationKey) {
-        try {
-            CopyObjectRequest copyRequest = CopyObjectRequest.builder()
-                    .sourceBucket(bucketName)
-                    .sourceKey(sourceKey)
-                    .destinationBucket(bucketName)
-                    .destinationKey(destinationKey)
-                    .acl(ObjectCannedACL.PUBLIC_READ)
-                    .build();
+        if (!migratedSourceKeys.isEmpty()) {
+            reviewS3StorageService.deleteTempImages(migratedSourceKeys);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                reviewImageMigrationRepository.deleteAllByIdInBatch(completedIds);
+            }
 
-            s3Client.copyObject(copyRequest);
+            for (ReviewImageMigration migration : reviewImageMigrationRepository.findAllById(failures.keySet())) {
+                migration.recordFailure(failures.get(migration.getId()), MAX_ATTEMPTS,
+                        LocalDateTime.now().plus(retryDelay(migration.getAttemptCount() + 1)));
+            }
+        });
 
-            log.debug("S3 object copied - source: {}, destination: {}", sourceKey, destinationKey);
+        log.info("S3 migration batch completed - migrated: {}, failed: {}", completedIds.size(), failures.size());
+        return completedIds.size();
+    }
 
+    private MigrationOutcome migrate(ReviewImageMigration migration) {
+        try {
+            migrateWithVariants(migration.getSourceKey(), migration.getTargetKey());
+            return new MigrationOutcome(migration, null);
+        } catch (Throwable e) {
+            // Error까지 작업 단위로 잡아 실패 횟수를 기록해야 반복 실패하는 행이 FAILED로 전환된다.
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("S3 migration failed - reviewId: {}, source: {}, attempt: {}, error: {}",
+                    migration.getReviewId(), migration.getSourceKey(), migration.getAttemptCount() + 1, e.toString());
+            return new MigrationOutcome(migration, e.toString());
+        }
+    }
+
+    private void migrateWithVariants(String sourceKey, String destinationKey) throws InterruptedException {
+        ResponseBytes<GetObjectResponse> source;
+        try {
+            source = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(sourceKey)
+                    .build());
         } catch (S3Exception e) {
-            log.error("S3 copy failed - source: {}, destination: {}, errorCode: {}, statusCode: {}",
-                    sourceKey, destinationKey, e.awsErrorDetails().errorCode(), e.statusCode(), e);
-            throw e;
+            if (e.statusCode() == 404 && objectExists(destinationKey)) {
+                log.debug("S3 object already migrated - source: {}, destination: {}", sourceKey, destinationKey);
+                return;
+            }
 
-        } catch (Exception e) {
-            log.error("S3 copy failed - source: {}, destination: {}, error: {}",
-                    sourceKey, destinationKey, e.getMessage(), e);
+            log.error("S3 read failed - source: {}, statusCode: {}", sourceKey, e.statusCode());
             throw e;
         }
-    }
 
-    private void deleteOriginalTempFiles(List<String> tempKeys) {
-        log.debug("Deleting temp files - count: {}", tempKeys.size());
+        Map<ReviewImageVariant, byte[]> variants = renderVariants(sourceKey, source.asByteArray());
+        String contentType = IMAGE_CONTENT_TYPE;
+        if (variants.isEmpty()) {
+            // 변환할 수 없는 이미지는 원본을 실제 Content-Type 그대로 모든 키에 저장한다.
+            contentType = Optional.ofNullable(source.response().contentType()).orElse(DEFAULT_CONTENT_TYPE);
+            for (ReviewImageVariant variant : ReviewImageVariant.values()) {
+                variants.put(variant, source.asByteArray());
+            }
+        }
 
-        for (String tempKey : tempKeys) {
-            try {
-                DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(tempKey)
-                        .build();
+        // 원본 키를 마지막에 올려야 원본 존재 여부로 마이그레이션 완료를 판단할 수 있다.
+        putImage(ReviewImageVariant.THUMBNAIL.apply(destinationKey), variants.get(ReviewImageVariant.THUMBNAIL), contentType);
+        putImage(ReviewImageVariant.MEDIUM.apply(destinationKey), variants.get(ReviewImageVariant.MEDIUM), contentType);
+        putImage(destinationKey, variants.get(ReviewImageVariant.ORIGINAL), contentType);
 
-                s3Client.deleteObject(deleteRequest);
+        log.debug("S3 object migrated with variants - source: {}, destination: {}", sourceKey, destinationKey);
+    }
 
-                log.debug("Temp file deleted - key: {}", tempKey);
+    private Map<ReviewImageVariant, byte[]> renderVariants(String sourceKey, byte[] source) throws InterruptedException {
+        Map<ReviewImageVariant, byte[]> variants = new EnumMap<>(ReviewImageVariant.class);
 
-            } catch (Exception e) {
-                log.warn("Failed to delete temp file - key: {}, error: {}", tempKey, e.getMessage());
+        resizePermits.acquire();
+        try {
+            BufferedImage image = ImageProcessingUtil.readImage(source);
+            for (ReviewImageVariant variant : ReviewImageVariant.values()) {
+                variants.put(variant, ImageProcessingUtil.toJpeg(image, variant.getMaxDimension()));
             }
+        } catch (IOException | RuntimeException e) {
+            log.warn("리뷰 이미지 변환 실패, 원본을 그대로 사용합니다 - source: {}, error: {}", sourceKey, e.getMessage());
+            variants.clear();
+        } finally {
+            resizePermits.release();
         }
 
-        log.debug("Temp files deletion completed - processed: {}", tempKeys.size());
+        return variants;
     }
 
-    private void rollbackMigratedFiles(List<String> migratedKeys) {
-        log.warn("Starting rollback - migratedFileCount: {}", migratedKeys.size());
-
-        for (String migratedKey : migratedKeys) {
-            try {
-                DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
+    private void putImage(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
                         .bucket(bucketName)
-                        .key(migratedKey)
-                        .build();
-
-                s3Client.deleteObject(deleteRequest);
-
-                log.debug("Migrated file rolled back - key: {}", migratedKey);
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .acl(ObjectCannedACL.PUBLIC_READ)
+                        .build(),
+                RequestBody.fromBytes(content));
+    }
 
-            } catch (Exception e) {
-                log.error("Failed to rollback file - key: {}, error: {}", migratedKey, e.getMessage());
+    private boolean objectExists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
             }
+            throw e;
         }
+    }
 
-        log.warn("Rollback completed - processed: {}", migratedKeys.size());
+    private Duration retryDelay(int attempt) {
+        Duration delay = RETRY_BASE_DELAY.multipliedBy(1L << Math.min(attempt - 1, 10));
+        return delay.compareTo(RETRY_MAX_DELAY) > 0 ? RETRY_MAX_DELAY : delay;
     }
 
     private String buildReviewImageKey(Long restaurantId, Long reviewId, String imageId) {
@@ -157,7 +270,6 @@ public class ReviewS3MigrationService {
         return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
     }
 
-    private String buildImageUrl(Long restaurantId, Long reviewId, String imageId) {
-        return String.format("/review/%d/%d/%s", restaurantId, reviewId, imageId);
+    private record MigrationOutcome(ReviewImageMigration migration, String error) {
     }
 }
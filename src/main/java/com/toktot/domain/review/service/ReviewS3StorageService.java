@@ -9,12 +9,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
 
 @Slf4j
 @Service
@@ -22,12 +26,15 @@ import java.util.UUID;
 public class ReviewS3StorageService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${toktot.s3.bucket-name}")
     private String bucketName;
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String[] ALLOWED_CONTENT_TYPES = {"image/jpeg", "image/png"};
+    private static final int MAX_DELETE_BATCH_SIZE = 1000;
+    private static final Duration PRESIGNED_UPLOAD_TTL = Duration.ofMinutes(5);
 
     public S3UploadResult uploadTempImage(MultipartFile file, Long userId, Long restaurantId) {
         validateFile(file);
@@ -59,6 +66,62 @@ public class ReviewS3StorageService {
                 .build();
     }
 
+    public PresignedUploadResult presignTempImageUpload(String fileName, String contentType, long fileSize,
+                                                        Long userId, Long restaurantId) {
+        validateImageMetadata(fileName, contentType, fileSize);
+
+        String imageId = UUID.randomUUID().toString();
+        String s3Key = String.format("temp/%d/%d/%s.%s",
+                userId, restaurantId, imageId, getFileExtension(fileName));
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength(fileSize)
+                .acl(ObjectCannedACL.PUBLIC_READ)
+                .build();
+
+        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(PRESIGNED_UPLOAD_TTL)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        Map<String, String> requiredHeaders = new LinkedHashMap<>();
+        presignedRequest.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                requiredHeaders.put(name, String.join(",", values));
+            }
+        });
+
+        return PresignedUploadResult.builder()
+                .imageId(imageId)
+                .s3Key(s3Key)
+                .imageUrl(String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s", bucketName, s3Key))
+                .uploadUrl(presignedRequest.url().toString())
+                .requiredHeaders(requiredHeaders)
+                .fileSize(fileSize)
+                .expiresAt(LocalDateTime.ofInstant(presignedRequest.expiration(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    public long getUploadedTempImageSize(String s3Key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+            return response.contentLength();
+        } catch (NoSuchKeyException e) {
+            throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 이미지를 찾을 수 없습니다.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new ToktotException(ErrorCode.FILE_UPLOAD_FAILED, "업로드된 이미지를 찾을 수 없습니다.");
+            }
+            throw e;
+        }
+    }
+
     public void deleteTempImage(String s3Key) {
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
                 .bucket(bucketName)
@@ -68,17 +131,52 @@ public class ReviewS3StorageService {
         s3Client.deleteObject(deleteObjectRequest);
     }
 
+    public int deleteTempImages(Collection<String> s3Keys) {
+        List<ObjectIdentifier> objects = s3Keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        int deleted = 0;
+        for (int from = 0; from < objects.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = objects.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, objects.size()));
+
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(batch).quiet(true).build())
+                        .build());
+
+                for (S3Error error : response.errors()) {
+                    log.warn("Failed to delete temp file - key: {}, code: {}", error.key(), error.code());
+                }
+                deleted += batch.size() - response.errors().size();
+            } catch (Exception e) {
+                log.warn("Failed to delete temp files - count: {}, error: {}", batch.size(), e.getMessage());
+            }
+        }
+
+        log.debug("Temp files deleted - requested: {}, deleted: {}", objects.size(), deleted);
+        return deleted;
+    }
+
     private void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new ToktotException(ErrorCode.MISSING_REQUIRED_FIELD, "파일이 선택되지 않았습니다.");
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
+        validateImageMetadata(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    private void validateImageMetadata(String originalFilename, String contentType, long fileSize) {
+        if (fileSize <= 0) {
+            throw new ToktotException(ErrorCode.INVALID_INPUT, "빈 파일은 업로드할 수 없습니다.");
+        }
+
+        if (fileSize > MAX_FILE_SIZE) {
             throw new ToktotException(ErrorCode.FILE_SIZE_EXCEEDED,
                     String.format("파일 크기는 %dMB를 초과할 수 없습니다.", MAX_FILE_SIZE / (1024 * 1024)));
         }
 
-        String contentType = file.getContentType();
         boolean isValidType = false;
         for (String allowedType : ALLOWED_CONTENT_TYPES) {
             if (allowedType.equals(contentType)) {
@@ -91,7 +189,6 @@ public class ReviewS3StorageService {
             throw new ToktotException(ErrorCode.INVALID_INPUT, "JPEG, PNG 파일만 업로드 가능합니다.");
         }
 
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new ToktotException(ErrorCode.INVALID_INPUT, "올바른 파일명이 필요합니다.");
         }
@@ -104,6 +201,18 @@ public class ReviewS3StorageService {
         return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
     }
 
+    @lombok.Builder
+    @lombok.Getter
+    public static class PresignedUploadResult {
+        private final String imageId;
+        private final String s3Key;
+        private final String imageUrl;
+        private final String uploadUrl;
+        private final Map<String, String> requiredHeaders;
+        private final Long fileSize;
+        private final LocalDateTime expiresAt;
+    }
+
     @lombok.Builder
     @lombok.Getter
     public static class S3UploadResult {
@@ -3,12 +3,14 @@ package com.toktot.domain.review.service;
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
 import com.toktot.domain.block.UserBlockRepository;
+import com.toktot.domain.review.dto.ReviewCursor;
 import com.toktot.domain.review.dto.response.search.RestaurantDetailReviewResponse;
 import com.toktot.domain.review.dto.response.search.RestaurantReviewStatisticsResponse;
 import com.toktot.domain.review.dto.response.search.ReviewFeedResponse;
 import com.toktot.domain.review.dto.response.search.ReviewListResponse;
 import com.toktot.domain.review.repository.ReviewSearchRepositoryCustom;
 import com.toktot.domain.search.type.SortType;
+import com.toktot.web.dto.CursorPageResponse;
 import com.toktot.web.dto.request.SearchCriteria;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,8 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ReviewSearchService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final ReviewSearchRepositoryCustom reviewSearchRepository;
     private final UserBlockRepository userBlockRepository;
 
@@ -96,12 +100,64 @@ public class ReviewSearchService {
         return reviewSearchRepository.findReviewFeed(criteria, currentUserId, blockedUserIds, pageable);
     }
 
+    public CursorPageResponse<ReviewFeedResponse> getReviewFeedByCursor(SearchCriteria criteria, Long currentUserId,
+                                                                        String cursor, int size) {
+        log.info("실시간 리뷰 피드 커서 조회 - userId: {}, cursor: {}", currentUserId, cursor);
+
+        List<Long> blockedUserIds = getBlockedUserIds(currentUserId);
+
+        return reviewSearchRepository.findReviewFeedByCursor(criteria, currentUserId, blockedUserIds,
+                ReviewCursor.decode(cursor), clampCursorPageSize(size));
+    }
+
+    public CursorPageResponse<ReviewListResponse> getSavedReviewsByCursor(Long userId, Long folderId,
+                                                                          String cursor, int size) {
+        log.info("저장한 리뷰 커서 조회 - userId: {}, folderId: {}, cursor: {}", userId, folderId, cursor);
+
+        List<Long> blockedUserIds = getBlockedUserIds(userId);
+
+        return reviewSearchRepository.findSavedReviewsByCursor(userId, folderId, blockedUserIds,
+                ReviewCursor.decode(cursor), clampCursorPageSize(size));
+    }
+
+    public CursorPageResponse<ReviewListResponse> getMyReviewsByCursor(Long userId, String cursor, int size) {
+        log.info("작성한 리뷰 커서 조회 - userId: {}, cursor: {}", userId, cursor);
+
+        return reviewSearchRepository.findMyReviewsByCursor(userId,
+                ReviewCursor.decode(cursor), clampCursorPageSize(size));
+    }
+
+    public CursorPageResponse<ReviewListResponse> getUserReviewsByCursor(Long targetUserId, Long currentUserId,
+                                                                         String cursor, int size) {
+        log.info("특정 사용자 리뷰 커서 조회 - targetUserId: {}, currentUserId: {}, cursor: {}",
+                targetUserId, currentUserId, cursor);
+
+        return reviewSearchRepository.findUserReviewsByCursor(targetUserId, currentUserId,
+                ReviewCursor.decode(cursor), clampCursorPageSize(size));
+    }
+
+    public CursorPageResponse<RestaurantDetailReviewResponse> getRestaurantReviewsByCursor(Long restaurantId, Long reviewId,
+                                                                                           SortType sortType, Long currentUserId,
+                                                                                           String cursor, int size) {
+        log.info("가게 상세 페이지 리뷰 커서 조회 - restaurantId: {}, reviewId: {}, sortType: {}, cursor: {}",
+                restaurantId, reviewId, sortType, cursor);
+
+        List<Long> blockedUserIds = getBlockedUserIds(currentUserId);
+
+        return reviewSearchRepository.findRestaurantReviewsByCursor(restaurantId, reviewId, sortType,
+                currentUserId, blockedUserIds, ReviewCursor.decode(cursor), clampCursorPageSize(size));
+    }
+
     public RestaurantReviewStatisticsResponse getRestaurantReviewStatistics(Long restaurantId) {
         log.info("가게 리뷰 통계 조회 - restaurantId: {}", restaurantId);
 
         return reviewSearchRepository.getRestaurantReviewStatistics(restaurantId);
     }
 
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
     private List<Long> getBlockedUserIds(Long currentUserId) {
         if (currentUserId == null) {
             return Collections.emptyList();
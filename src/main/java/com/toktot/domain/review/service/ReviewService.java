@@ -2,8 +2,10 @@ package com.toktot.domain.review.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.domain.localfood.service.LocalFoodStatisticsService;
 import com.toktot.domain.restaurant.Restaurant;
 import com.toktot.domain.restaurant.repository.RestaurantRepository;
+import com.toktot.domain.restaurant.service.RestaurantStatisticsService;
 import com.toktot.domain.review.Review;
 import com.toktot.domain.review.dto.ReviewImageDTO;
 import com.toktot.domain.review.dto.ReviewSessionDTO;
@@ -18,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +41,9 @@ public class ReviewService {
     private final ReviewImageService reviewImageService;
     private final ReviewRepository reviewRepository;
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantStatisticsService restaurantStatisticsService;
+    private final LocalFoodStatisticsService localFoodStatisticsService;
+    private final PopularReviewRankingService popularReviewRankingService;
 
     @Transactional
     public ReviewCreateResponse createReview(ReviewCreateRequest request, User user) {
@@ -55,9 +62,12 @@ public class ReviewService {
         reviewKeywordService.saveKeywordsInReview(review, request.keywords());
         reviewRepository.save(review);
         reviewImageService.saveImagesInReview(review, request.images(), reviewSessionDTO);
-        reviewS3MigrationService.migrateSessionImages(reviewSessionDTO, review.getId());
+        reviewRepository.refreshAverageRating(review.getId());
+        restaurantStatisticsService.applyReviewCreated(review);
+        localFoodStatisticsService.applyReviewCreated(review);
+        reviewS3MigrationService.enqueueSessionImages(reviewSessionDTO, review.getId());
 
-        reviewSessionService.deleteSession(user.getId(), request.id());
+        deleteSessionAfterCommit(user.getId(), request.id());
         return ReviewCreateResponse.from(review.getId(), review.getRestaurant().getId());
     }
 
@@ -68,7 +78,37 @@ public class ReviewService {
             throw new ToktotException(ErrorCode.ACCESS_DENIED);
         }
 
+        // 재시도나 동시 삭제 요청이 통계를 두 번 차감하지 않도록 숨김 전환에 성공한 요청만 통계를 반영한다.
+        if (reviewRepository.hideIfVisible(reviewId) == 0) {
+            log.debug("이미 삭제된 리뷰 - reviewId: {}", reviewId);
+            return;
+        }
+
         review.hiddenReview();
+        restaurantStatisticsService.applyReviewHidden(review);
+        popularReviewRankingService.removeReview(reviewId);
+    }
+
+    @Transactional
+    public int reconcileSortKeys() {
+        int updated = reviewRepository.reconcileSortKeys();
+        log.info("리뷰 정렬 키 보정 완료 - {}건", updated);
+        return updated;
+    }
+
+    private void deleteSessionAfterCommit(Long userId, Long restaurantId) {
+        // 마이그레이션 행이 커밋되기 전에 세션이 사라지면 임시 이미지 정리 작업이 이동 대상 이미지를 지울 수 있다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reviewSessionService.deleteSession(userId, restaurantId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reviewSessionService.deleteSession(userId, restaurantId);
+            }
+        });
     }
 
     private void validateIsMain(List<ReviewImageRequest> requests) {
@@ -13,6 +13,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,6 +30,8 @@ public class ReviewSessionService {
     private int sessionTtlHours;
 
     private static final String SESSION_KEY_PREFIX = "review_session";
+    private static final String PENDING_UPLOAD_KEY_PREFIX = "review_pending_upload";
+    private static final Duration PENDING_UPLOAD_TTL = Duration.ofMinutes(15);
     private static final int MAX_IMAGES = 5;
 
     public Optional<ReviewSessionDTO> getSession(Long userId, Long restaurantId) {
@@ -109,6 +113,36 @@ public class ReviewSessionService {
         }
     }
 
+    public boolean tryAddImagesToSession(Long userId, Long restaurantId, List<ReviewImageDTO> imageDTOs) {
+        try {
+            ReviewSessionDTO session = getSession(userId, restaurantId)
+                    .orElse(ReviewSessionDTO.create(userId, restaurantId));
+
+            if (session.getImageCount() + imageDTOs.size() > MAX_IMAGES) {
+                log.warn("Failed to add images to session - max images reached: userId={}, restaurantId={}, count={}",
+                        userId, restaurantId, imageDTOs.size());
+                return false;
+            }
+
+            for (ReviewImageDTO imageDTO : imageDTOs) {
+                imageDTO.setOrder(session.getImageCount() + 1);
+                session.getImages().add(imageDTO);
+            }
+            session.setLastModified(DateTimeUtil.nowWithoutNanos());
+
+            saveSession(session);
+
+            log.debug("Images added to session: userId={}, restaurantId={}, count={}",
+                    userId, restaurantId, imageDTOs.size());
+            return true;
+
+        } catch (Exception e) {
+            log.error("Error adding images to session: userId={}, restaurantId={}, count={}",
+                    userId, restaurantId, imageDTOs.size(), e);
+            return false;
+        }
+    }
+
     public void removeImageFromSession(Long userId, Long restaurantId, String imageId) {
         try {
             ReviewSessionDTO session = getSession(userId, restaurantId)
@@ -145,6 +179,56 @@ public class ReviewSessionService {
         }
     }
 
+    public void savePendingUpload(Long userId, Long restaurantId, ReviewImageDTO imageDTO) {
+        try {
+            redisTemplate.opsForValue().set(
+                    buildPendingUploadKey(userId, restaurantId, imageDTO.getImageId()), imageDTO, PENDING_UPLOAD_TTL);
+        } catch (Exception e) {
+            log.error("Error saving pending upload: userId={}, restaurantId={}, imageId={}",
+                    userId, restaurantId, imageDTO.getImageId(), e);
+            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, "업로드 정보 저장에 실패했습니다.");
+        }
+    }
+
+    public Optional<ReviewImageDTO> findPendingUpload(Long userId, Long restaurantId, String imageId) {
+        try {
+            Object pending = redisTemplate.opsForValue().get(buildPendingUploadKey(userId, restaurantId, imageId));
+            if (pending == null) {
+                return Optional.empty();
+            }
+
+            if (pending instanceof ReviewImageDTO imageDTO) {
+                return Optional.of(imageDTO);
+            }
+            return Optional.ofNullable(objectMapper.convertValue(pending, ReviewImageDTO.class));
+
+        } catch (Exception e) {
+            log.error("Error getting pending upload: userId={}, restaurantId={}, imageId={}",
+                    userId, restaurantId, imageId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void deletePendingUploads(Long userId, Long restaurantId, Collection<String> imageIds) {
+        try {
+            redisTemplate.delete(imageIds.stream()
+                    .map(imageId -> buildPendingUploadKey(userId, restaurantId, imageId))
+                    .toList());
+        } catch (Exception e) {
+            log.warn("Failed to delete pending uploads: userId={}, restaurantId={}, imageIds={}",
+                    userId, restaurantId, imageIds, e);
+        }
+    }
+
+    public boolean hasActiveSession(Long userId, Long restaurantId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(buildSessionKey(userId, restaurantId)));
+        } catch (Exception e) {
+            log.warn("Failed to check session existence: userId={}, restaurantId={}", userId, restaurantId, e);
+            return true;
+        }
+    }
+
     private void reorderImages(ReviewSessionDTO session) {
         if (session.getImages() != null) {
             for (int i = 0; i < session.getImages().size(); i++) {
@@ -166,6 +250,10 @@ public class ReviewSessionService {
         return String.format("%s:%d:%d", SESSION_KEY_PREFIX, userId, restaurantId);
     }
 
+    private String buildPendingUploadKey(Long userId, Long restaurantId, String imageId) {
+        return String.format("%s:%d:%d:%s", PENDING_UPLOAD_KEY_PREFIX, userId, restaurantId, imageId);
+    }
+
     public void deleteAllUserSessions(Long userId) {
         try {
             String userSessionPattern = SESSION_KEY_PREFIX + ":" + userId + ":*";
@@ -0,0 +1,82 @@
+package com.toktot.domain.review.service;
+
+import com.toktot.domain.review.repository.ReviewImageMigrationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewTempImageCleanupService {
+
+    private final S3Client s3Client;
+    private final ReviewS3StorageService reviewS3StorageService;
+    private final ReviewSessionService reviewSessionService;
+    private final ReviewImageMigrationRepository reviewImageMigrationRepository;
+
+    @Value("${toktot.s3.bucket-name}")
+    private String bucketName;
+
+    private static final String TEMP_PREFIX = "temp/";
+    private static final Duration MIN_TEMP_AGE = Duration.ofHours(1);
+
+    public int sweepExpiredTempImages() {
+        Instant cutoff = Instant.now().minus(MIN_TEMP_AGE);
+        Map<String, Boolean> activeSessions = new HashMap<>();
+        int scanned = 0;
+        int deleted = 0;
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(TEMP_PREFIX)
+                .build();
+
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(listRequest)) {
+            List<String> expiredKeys = new ArrayList<>();
+
+            for (S3Object object : page.contents()) {
+                scanned++;
+                if (object.lastModified().isBefore(cutoff) && !hasActiveSession(object.key(), activeSessions)) {
+                    expiredKeys.add(object.key());
+                }
+            }
+
+            if (expiredKeys.isEmpty()) {
+                continue;
+            }
+
+            expiredKeys.removeAll(new HashSet<>(reviewImageMigrationRepository.findSourceKeysIn(expiredKeys)));
+            deleted += reviewS3StorageService.deleteTempImages(expiredKeys);
+        }
+
+        log.info("Temp image sweep completed - scanned: {}, deleted: {}", scanned, deleted);
+        return deleted;
+    }
+
+    private boolean hasActiveSession(String key, Map<String, Boolean> activeSessions) {
+        String[] parts = key.split("/");
+        if (parts.length != 4) {
+            return false;
+        }
+
+        try {
+            Long userId = Long.valueOf(parts[1]);
+            Long restaurantId = Long.valueOf(parts[2]);
+
+            return activeSessions.computeIfAbsent(parts[1] + ":" + parts[2],
+                    ignored -> reviewSessionService.hasActiveSession(userId, restaurantId));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.toktot.domain.review.type;
+
+public enum ReviewImageMigrationStatus {
+
+    PENDING,
+    FAILED,
+    ;
+}
@@ -0,0 +1,29 @@
+package com.toktot.domain.review.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReviewImageVariant {
+
+    ORIGINAL("", 2048),
+    MEDIUM("_medium", 1080),
+    THUMBNAIL("_thumb", 320),
+    ;
+
+    private final String suffix;
+    private final int maxDimension;
+
+    public String apply(String keyOrUrl) {
+        if (suffix.isEmpty()) {
+            return keyOrUrl;
+        }
+
+        int extensionIndex = keyOrUrl.lastIndexOf('.');
+        if (extensionIndex <= keyOrUrl.lastIndexOf('/')) {
+            return keyOrUrl + suffix;
+        }
+        return keyOrUrl.substring(0, extensionIndex) + suffix + keyOrUrl.substring(extensionIndex);
+    }
+}
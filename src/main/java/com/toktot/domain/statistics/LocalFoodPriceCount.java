@@ -0,0 +1,38 @@
+package com.toktot.domain.statistics;
+
+import com.toktot.domain.localfood.LocalFoodType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "local_food_price_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LocalFoodPriceCount {
+
+    @EmbeddedId
+    private LocalFoodPriceCountId id;
+
+    @Column(name = "tooltip_count", nullable = false)
+    private Integer tooltipCount;
+
+    public Integer getPricePerServing() {
+        return id.getPricePerServing();
+    }
+
+    @Embeddable
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class LocalFoodPriceCountId implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "food_type", length = 50)
+        private LocalFoodType foodType;
+
+        @Column(name = "price_per_serving")
+        private Integer pricePerServing;
+    }
+}
@@ -0,0 +1,60 @@
+package com.toktot.domain.statistics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+public record PriceDistribution(
+        int[] sortedPrices,
+        int totalCount
+) {
+
+    public static final PriceDistribution EMPTY = new PriceDistribution(new int[0], 0);
+
+    public static PriceDistribution of(Collection<Integer> prices, int totalCount) {
+        int[] sortedPrices = prices.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .sorted()
+                .toArray();
+
+        return new PriceDistribution(sortedPrices, totalCount);
+    }
+
+    public int countCheaperThan(int price) {
+        int low = 0;
+        int high = sortedPrices.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PriceDistribution that)) return false;
+        return totalCount == that.totalCount && Arrays.equals(sortedPrices, that.sortedPrices);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(sortedPrices) + totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceDistribution[prices=" + sortedPrices.length + ", totalCount=" + totalCount + "]";
+    }
+}
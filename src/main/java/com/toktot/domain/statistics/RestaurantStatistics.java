@@ -32,6 +32,18 @@ public class RestaurantStatistics {
     @Column(name = "average_rating", precision = 2, scale = 1)
     private BigDecimal averageRating;
 
+    @Builder.Default
+    @Column(name = "food_rating_sum", precision = 12, scale = 1, nullable = false)
+    private BigDecimal foodRatingSum = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "food_rating_count", nullable = false)
+    private Integer foodRatingCount = 0;
+
+    @Builder.Default
+    @Column(name = "value_for_money_sum", nullable = false)
+    private Long valueForMoneySum = 0L;
+
     @Column(name = "average_satisfaction")
     private Integer averageSatisfaction;
 
@@ -70,4 +82,11 @@ public class RestaurantStatistics {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    public BigDecimal getAverageRatingOrZero() {
+        return averageRating != null ? averageRating : BigDecimal.ZERO;
+    }
+
+    public Long getReviewCountAsLong() {
+        return reviewCount != null ? reviewCount.longValue() : 0L;
+    }
 }
@@ -0,0 +1,50 @@
+package com.toktot.domain.statistics.repository;
+
+import com.toktot.domain.localfood.LocalFoodType;
+import com.toktot.domain.statistics.LocalFoodPriceCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LocalFoodPriceCountRepository
+        extends JpaRepository<LocalFoodPriceCount, LocalFoodPriceCount.LocalFoodPriceCountId> {
+
+    @Query("""
+        SELECT c
+        FROM LocalFoodPriceCount c
+        WHERE c.id.foodType = :foodType
+        ORDER BY c.id.pricePerServing ASC
+        """)
+    List<LocalFoodPriceCount> findAllByFoodType(@Param("foodType") LocalFoodType foodType);
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO local_food_price_counts AS c (food_type, price_per_serving, tooltip_count)
+        VALUES (:foodType, :pricePerServing, :delta)
+        ON CONFLICT (food_type, price_per_serving) DO UPDATE SET
+            tooltip_count = c.tooltip_count + :delta
+        """, nativeQuery = true)
+    void incrementCount(@Param("foodType") String foodType,
+                        @Param("pricePerServing") int pricePerServing,
+                        @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM local_food_price_counts", nativeQuery = true)
+    int deleteAllCounts();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO local_food_price_counts (food_type, price_per_serving, tooltip_count)
+        SELECT t.local_food_type, t.total_price / t.serving_size, COUNT(*)
+        FROM tooltips t
+        WHERE t.tooltip_type = 'FOOD'
+          AND t.local_food_type IS NOT NULL
+          AND t.total_price IS NOT NULL
+          AND t.serving_size > 0
+        GROUP BY t.local_food_type, t.total_price / t.serving_size
+        """, nativeQuery = true)
+    int rebuildCountsFromTooltips();
+}
@@ -0,0 +1,63 @@
+package com.toktot.domain.statistics.repository;
+
+import com.toktot.domain.localfood.LocalFoodType;
+import com.toktot.domain.statistics.LocalFoodStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LocalFoodStatisticsRepository extends JpaRepository<LocalFoodStatistics, LocalFoodType> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO local_food_statistics (
+            food_type, review_count, restaurant_count, cheap_count, fair_count, expensive_count, updated_at
+        ) VALUES (:foodType, 0, 0, 0, 0, 0, NOW())
+        ON CONFLICT (food_type) DO NOTHING
+        """, nativeQuery = true)
+    void insertIfAbsent(@Param("foodType") String foodType);
+
+    @Query(value = "SELECT food_type FROM local_food_statistics WHERE food_type = :foodType FOR UPDATE",
+            nativeQuery = true)
+    String lockByFoodType(@Param("foodType") String foodType);
+
+    @Query(value = """
+        SELECT COUNT(DISTINCT r.restaurant_id)
+        FROM tooltips t
+        JOIN review_images ri ON ri.id = t.review_image_id
+        JOIN reviews r ON r.id = ri.review_id
+        WHERE t.tooltip_type = 'FOOD'
+          AND t.local_food_type = :foodType
+          AND t.total_price IS NOT NULL
+          AND t.serving_size > 0
+        """, nativeQuery = true)
+    long countRestaurantsByFoodType(@Param("foodType") String foodType);
+
+    @Modifying
+    @Query(value = """
+        UPDATE local_food_statistics
+        SET review_count = :reviewCount,
+            restaurant_count = COALESCE(:restaurantCount, restaurant_count),
+            average_price = :averagePrice,
+            min_price = :minPrice,
+            max_price = :maxPrice,
+            cheap_count = :cheapCount,
+            fair_count = :fairCount,
+            expensive_count = :expensiveCount,
+            price_ranges = CAST(:priceRanges AS json),
+            last_calculated_at = NOW(),
+            updated_at = NOW()
+        WHERE food_type = :foodType
+        """, nativeQuery = true)
+    void updateStatistics(@Param("foodType") String foodType,
+                          @Param("reviewCount") int reviewCount,
+                          @Param("restaurantCount") Integer restaurantCount,
+                          @Param("averagePrice") int averagePrice,
+                          @Param("minPrice") int minPrice,
+                          @Param("maxPrice") int maxPrice,
+                          @Param("cheapCount") int cheapCount,
+                          @Param("fairCount") int fairCount,
+                          @Param("expensiveCount") int expensiveCount,
+                          @Param("priceRanges") String priceRanges);
+}
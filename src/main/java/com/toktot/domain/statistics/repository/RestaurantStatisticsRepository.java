@@ -0,0 +1,108 @@
+package com.toktot.domain.statistics.repository;
+
+import com.toktot.domain.statistics.RestaurantStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface RestaurantStatisticsRepository extends JpaRepository<RestaurantStatistics, Long> {
+
+    @Modifying
+    @Query(value = """
+        INSERT INTO restaurant_statistics AS rs (
+            restaurant_id, review_count, food_rating_sum, food_rating_count, value_for_money_sum,
+            average_rating, average_satisfaction, click_count, bookmark_count, has_local_food,
+            local_food_review_count, last_reviewed_at, last_calculated_at, updated_at
+        ) VALUES (
+            :restaurantId,
+            GREATEST(:reviewDelta, 0),
+            GREATEST(:ratingSumDelta, 0),
+            GREATEST(:ratingCountDelta, 0),
+            GREATEST(:valueForMoneyDelta, 0),
+            CASE WHEN :ratingCountDelta > 0 THEN ROUND(:ratingSumDelta / :ratingCountDelta, 1) END,
+            CASE WHEN :reviewDelta > 0 THEN ROUND(CAST(:valueForMoneyDelta AS numeric) / :reviewDelta) END,
+            0, 0, false, 0,
+            CASE WHEN :reviewDelta > 0 THEN NOW() END,
+            NOW(), NOW()
+        )
+        ON CONFLICT (restaurant_id) DO UPDATE SET
+            review_count = GREATEST(rs.review_count + :reviewDelta, 0),
+            food_rating_sum = GREATEST(rs.food_rating_sum + :ratingSumDelta, 0),
+            food_rating_count = GREATEST(rs.food_rating_count + :ratingCountDelta, 0),
+            value_for_money_sum = GREATEST(rs.value_for_money_sum + :valueForMoneyDelta, 0),
+            average_rating = CASE WHEN rs.food_rating_count + :ratingCountDelta > 0
+                THEN ROUND((rs.food_rating_sum + :ratingSumDelta) / (rs.food_rating_count + :ratingCountDelta), 1) END,
+            average_satisfaction = CASE WHEN rs.review_count + :reviewDelta > 0
+                THEN ROUND(CAST(rs.value_for_money_sum + :valueForMoneyDelta AS numeric) / (rs.review_count + :reviewDelta)) END,
+            last_reviewed_at = CASE WHEN :reviewDelta > 0 THEN NOW() ELSE rs.last_reviewed_at END,
+            updated_at = NOW()
+        """, nativeQuery = true)
+    void applyReviewDelta(@Param("restaurantId") Long restaurantId,
+                          @Param("reviewDelta") int reviewDelta,
+                          @Param("ratingSumDelta") BigDecimal ratingSumDelta,
+                          @Param("ratingCountDelta") int ratingCountDelta,
+                          @Param("valueForMoneyDelta") long valueForMoneyDelta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO restaurant_statistics AS rs (
+            restaurant_id, review_count, food_rating_sum, food_rating_count, value_for_money_sum,
+            average_rating, average_satisfaction, click_count, bookmark_count, has_local_food,
+            local_food_review_count, last_reviewed_at, last_calculated_at, updated_at
+        )
+        SELECT r.restaurant_id,
+               COUNT(*),
+               COALESCE(SUM(f.rating_sum), 0),
+               COALESCE(SUM(f.rating_count), 0),
+               COALESCE(SUM(r.value_for_money_score), 0),
+               ROUND(SUM(f.rating_sum) / NULLIF(SUM(f.rating_count), 0), 1),
+               ROUND(AVG(r.value_for_money_score)),
+               0, 0, false, 0,
+               MAX(r.created_at),
+               NOW(), NOW()
+        FROM reviews r
+        LEFT JOIN (
+            SELECT ri.review_id, SUM(t.rating) AS rating_sum, COUNT(*) AS rating_count
+            FROM tooltips t
+            JOIN review_images ri ON ri.id = t.review_image_id
+            WHERE t.tooltip_type = 'FOOD'
+            GROUP BY ri.review_id
+        ) f ON f.review_id = r.id
+        WHERE r.is_hidden = false
+        GROUP BY r.restaurant_id
+        ON CONFLICT (restaurant_id) DO UPDATE SET
+            review_count = EXCLUDED.review_count,
+            food_rating_sum = EXCLUDED.food_rating_sum,
+            food_rating_count = EXCLUDED.food_rating_count,
+            value_for_money_sum = EXCLUDED.value_for_money_sum,
+            average_rating = EXCLUDED.average_rating,
+            average_satisfaction = EXCLUDED.average_satisfaction,
+            last_reviewed_at = EXCLUDED.last_reviewed_at,
+            last_calculated_at = NOW(),
+            updated_at = NOW()
+        """, nativeQuery = true)
+    int rebuildReviewStatistics();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        UPDATE restaurant_statistics rs
+        SET review_count = 0,
+            food_rating_sum = 0,
+            food_rating_count = 0,
+            value_for_money_sum = 0,
+            average_rating = NULL,
+            average_satisfaction = NULL,
+            last_calculated_at = NOW(),
+            updated_at = NOW()
+        WHERE rs.review_count > 0
+          AND NOT EXISTS (
+              SELECT 1 FROM reviews r
+              WHERE r.restaurant_id = rs.restaurant_id
+                AND r.is_hidden = false
+          )
+        """, nativeQuery = true)
+    int resetStatisticsWithoutVisibleReviews();
+}
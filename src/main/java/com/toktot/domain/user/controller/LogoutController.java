@@ -1,6 +1,7 @@
 package com.toktot.domain.user.controller;
 
 import com.toktot.common.util.ClientInfoExtractor;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.user.User;
 import com.toktot.domain.user.service.AuditLogService;
 import com.toktot.domain.user.service.AuthService;
@@ -25,6 +26,7 @@ public class LogoutController {
 
     private final AuthService authService;
     private final AuditLogService auditLogService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<String>> logout(
@@ -39,6 +41,7 @@ public class LogoutController {
 
         ResponseCookie deleteRefreshToken = authService.deleteRefreshToken();
         response.addHeader("Set-Cookie", deleteRefreshToken.toString());
+        userPrincipalCache.evict(user.getId());
 
         auditLogService.recordLogout(user, clientIp, userAgent);
 
@@ -2,7 +2,9 @@ package com.toktot.domain.user.controller;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.security.JwtTokenClaims;
 import com.toktot.config.security.JwtTokenProvider;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.user.User;
 import com.toktot.domain.user.repository.UserRepository;
 import com.toktot.domain.user.service.AuthService;
@@ -32,6 +34,7 @@ public class TokenRefreshController {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(
@@ -44,8 +47,8 @@ public class TokenRefreshController {
         logRefreshAttempt(clientIp, userAgent);
 
         try {
-            String refreshToken = extractAndValidateRefreshToken(request, response, clientIp);
-            User user = validateUserFromToken(refreshToken, response, clientIp);
+            JwtTokenClaims claims = extractAndValidateRefreshToken(request, response, clientIp);
+            User user = validateUserFromToken(claims, response, clientIp);
             TokenResponse tokenResponse = generateAndSetNewTokens(user, response);
             updateUserLoginInfo(user, clientIp);
 
@@ -71,7 +74,7 @@ public class TokenRefreshController {
                 .log();
     }
 
-    private String extractAndValidateRefreshToken(HttpServletRequest request,
+    private JwtTokenClaims extractAndValidateRefreshToken(HttpServletRequest request,
                                                   HttpServletResponse response,
                                                   String clientIp) {
         String refreshToken = extractRefreshTokenFromCookie(request);
@@ -84,46 +87,51 @@ public class TokenRefreshController {
             throw new ToktotException(ErrorCode.TOKEN_INVALID, "리프레시 토큰이 필요합니다.");
         }
 
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            log.atWarn()
-                    .setMessage("Invalid refresh token")
-                    .addKeyValue("clientIp", clientIp)
-                    .addKeyValue("tokenLength", refreshToken.length())
-                    .log();
-            clearRefreshTokenCookie(response);
-            throw new ToktotException(ErrorCode.TOKEN_INVALID, "리프레시 토큰이 유효하지 않습니다.");
-        }
+        JwtTokenClaims claims = parseRefreshToken(refreshToken, response, clientIp);
 
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!claims.isRefreshToken()) {
             log.atWarn()
                     .setMessage("Token is not refresh type")
                     .addKeyValue("clientIp", clientIp)
-                    .addKeyValue("tokenType", jwtTokenProvider.getTokenType(refreshToken))
+                    .addKeyValue("tokenType", claims.tokenType())
                     .log();
             clearRefreshTokenCookie(response);
             throw new ToktotException(ErrorCode.TOKEN_INVALID, "올바른 리프레시 토큰이 아닙니다.");
         }
 
-        if (jwtTokenProvider.isTokenExpired(refreshToken)) {
-            log.atWarn()
-                    .setMessage("Refresh token expired")
-                    .addKeyValue("clientIp", clientIp)
-                    .addKeyValue("expiration", jwtTokenProvider.getExpirationFromToken(refreshToken))
-                    .log();
-            clearRefreshTokenCookie(response);
-            throw new ToktotException(ErrorCode.TOKEN_EXPIRED, "리프레시 토큰이 만료되었습니다.");
-        }
-
         log.atDebug()
                 .setMessage("Refresh token validation successful")
                 .addKeyValue("clientIp", clientIp)
                 .log();
 
-        return refreshToken;
+        return claims;
+    }
+
+    private JwtTokenClaims parseRefreshToken(String refreshToken, HttpServletResponse response, String clientIp) {
+        try {
+            return jwtTokenProvider.parseToken(refreshToken);
+        } catch (ToktotException e) {
+            clearRefreshTokenCookie(response);
+
+            if (e.getErrorCode() == ErrorCode.TOKEN_EXPIRED) {
+                log.atWarn()
+                        .setMessage("Refresh token expired")
+                        .addKeyValue("clientIp", clientIp)
+                        .log();
+                throw new ToktotException(ErrorCode.TOKEN_EXPIRED, "리프레시 토큰이 만료되었습니다.");
+            }
+
+            log.atWarn()
+                    .setMessage("Invalid refresh token")
+                    .addKeyValue("clientIp", clientIp)
+                    .addKeyValue("tokenLength", refreshToken.length())
+                    .log();
+            throw new ToktotException(ErrorCode.TOKEN_INVALID, "리프레시 토큰이 유효하지 않습니다.");
+        }
     }
 
-    private User validateUserFromToken(String refreshToken, HttpServletResponse response, String clientIp) {
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+    private User validateUserFromToken(JwtTokenClaims claims, HttpServletResponse response, String clientIp) {
+        Long userId = claims.userId();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -177,6 +185,7 @@ public class TokenRefreshController {
         if (user.getUserProfile() != null) {
             user.getUserProfile().recordSuccessfulLogin(clientIp);
             userRepository.save(user);
+            userPrincipalCache.evict(user.getId());
 
             log.atDebug()
                     .setMessage("User login info updated during token refresh")
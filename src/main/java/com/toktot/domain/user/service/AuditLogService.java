@@ -3,25 +3,22 @@ package com.toktot.domain.user.service;
 import com.toktot.interceptor.logging.SecurityEventLogger;
 import com.toktot.domain.user.AuditLog;
 import com.toktot.domain.user.User;
-import com.toktot.domain.user.repository.AuditLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuditLogService {
 
-    private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final SecurityEventLogger securityEventLogger;
 
     public void recordLoginSuccess(User user, String clientIp, String userAgent, String loginMethod) {
         try {
             AuditLog auditLog = AuditLog.createLoginSuccess(user, clientIp, userAgent, loginMethod);
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(auditLog);
 
             securityEventLogger.logLoginSuccess(
                     user.getId().toString(),
@@ -52,7 +49,7 @@ public class AuditLogService {
     public void recordLoginFailure(String identifier, String clientIp, String userAgent, String reason) {
         try {
             AuditLog auditLog = AuditLog.createLoginFailed(identifier, clientIp, userAgent, reason);
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(auditLog);
 
             securityEventLogger.logLoginFailure(identifier, clientIp, userAgent, reason);
 
@@ -77,7 +74,7 @@ public class AuditLogService {
     public void recordLogout(User user, String clientIp, String userAgent) {
         try {
             AuditLog auditLog = AuditLog.createLogout(user, clientIp, userAgent);
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(auditLog);
 
             securityEventLogger.logLogout(
                     user.getId().toString(),
@@ -176,7 +173,7 @@ public class AuditLogService {
 
     public void recordUserDelete(User user, String clientIp, String userAgent) {
         AuditLog auditLog = AuditLog.createUserDelete(user, clientIp, userAgent);
-        auditLogRepository.save(auditLog);
+        auditLogWriter.enqueue(auditLog);
 
         securityEventLogger.logLogout(
                 user.getId().toString(),
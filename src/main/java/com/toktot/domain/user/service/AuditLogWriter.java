@@ -0,0 +1,149 @@
+package com.toktot.domain.user.service;
+
+import com.toktot.domain.user.AuditLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (user_id, action, resource, client_ip, user_agent, metadata, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final BlockingQueue<PendingAuditLog> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong totalDroppedCount = new AtomicLong();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("audit-log-writer").daemon(true).factory());
+
+    public void enqueue(AuditLog auditLog) {
+        PendingAuditLog pending = PendingAuditLog.from(auditLog);
+
+        if (!queue.offer(pending)) {
+            totalDroppedCount.incrementAndGet();
+            long dropped = droppedCount.incrementAndGet();
+            if (dropped == 1) {
+                log.warn("감사 로그 큐가 가득 차 새 이벤트를 버립니다. capacity: {}", QUEUE_CAPACITY);
+            }
+        }
+    }
+
+    // 기본 스케줄러 스레드는 긴 동기화 작업과 공유되므로 전용 스레드에서 큐를 비운다.
+    @PostConstruct
+    public void startFlushing() {
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        try {
+            drain(BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("감사 로그 플러시 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("감사 로그 플러시 스레드가 제시간에 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int written = drain(Integer.MAX_VALUE);
+        log.info("종료 전 감사 로그 플러시 완료 - {}건, 누적 유실 {}건", written, totalDroppedCount.get());
+    }
+
+    private synchronized int drain(int maxBatches) {
+        int written = 0;
+
+        for (int i = 0; i < maxBatches && !queue.isEmpty(); i++) {
+            List<PendingAuditLog> batch = new ArrayList<>(BATCH_SIZE);
+            queue.drainTo(batch, BATCH_SIZE);
+
+            try {
+                insertBatch(batch);
+                written += batch.size();
+            } catch (Exception e) {
+                log.error("감사 로그 배치 저장 실패 - {}건 유실", batch.size(), e);
+            }
+        }
+
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("감사 로그 큐 포화로 {}건이 저장되지 않았습니다. 누적 유실: {}건", dropped, totalDroppedCount.get());
+        }
+
+        return written;
+    }
+
+    private void insertBatch(List<PendingAuditLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+            if (pending.userId() != null) {
+                ps.setLong(1, pending.userId());
+            } else {
+                ps.setNull(1, Types.BIGINT);
+            }
+            ps.setString(2, pending.action());
+            ps.setString(3, pending.resource());
+            ps.setString(4, pending.clientIp());
+            ps.setString(5, pending.userAgent());
+            ps.setString(6, pending.metadata());
+            ps.setTimestamp(7, Timestamp.valueOf(pending.createdAt()));
+        });
+
+        log.debug("감사 로그 배치 저장 완료 - {}건", batch.size());
+    }
+
+    private record PendingAuditLog(
+            Long userId,
+            String action,
+            String resource,
+            String clientIp,
+            String userAgent,
+            String metadata,
+            LocalDateTime createdAt
+    ) {
+
+        private static PendingAuditLog from(AuditLog auditLog) {
+            return new PendingAuditLog(
+                    auditLog.getUser() != null ? auditLog.getUser().getId() : null,
+                    auditLog.getAction().name(),
+                    auditLog.getResource(),
+                    auditLog.getClientIp(),
+                    auditLog.getUserAgent(),
+                    auditLog.getMetadata(),
+                    LocalDateTime.now()
+            );
+        }
+    }
+}
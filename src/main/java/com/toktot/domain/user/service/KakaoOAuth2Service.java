@@ -2,6 +2,7 @@ package com.toktot.domain.user.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.user.User;
 import com.toktot.domain.user.UserAgreement;
 import com.toktot.domain.user.UserProfile;
@@ -26,6 +27,7 @@ public class KakaoOAuth2Service {
     private final UserRepository userRepository;
     private final KakaoApiClient kakaoApiClient;
     private final AuthRequestMapper authRequestMapper;
+    private final UserPrincipalCache userPrincipalCache;
 
     public User processKakaoLogin(String authorizationCode, String clientIp, String userAgent) {
         logKakaoLoginStart(clientIp, userAgent);
@@ -199,6 +201,7 @@ public class KakaoOAuth2Service {
     private void updateLoginRecord(User user, String clientIp) {
         if (user.getUserProfile() != null) {
             user.getUserProfile().recordSuccessfulLogin(clientIp);
+            userPrincipalCache.evict(user.getId());
             log.debug("로그인 기록 업데이트 완료 - userId: {}, clientIp: {}", user.getId(), clientIp);
         }
     }
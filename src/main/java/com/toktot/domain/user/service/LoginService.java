@@ -2,6 +2,7 @@ package com.toktot.domain.user.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.user.User;
 import com.toktot.domain.user.repository.UserRepository;
 import com.toktot.domain.user.type.AuthProvider;
@@ -19,6 +20,7 @@ public class LoginService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     public User authenticateEmailUser(String email, String password, String clientIp) {
         User user = findEmailUser(email, clientIp);
@@ -79,6 +81,7 @@ public class LoginService {
         if (user.getUserProfile() != null) {
             user.getUserProfile().recordSuccessfulLogin(clientIp);
             userRepository.save(user);
+            userPrincipalCache.evict(user.getId());
         }
 
         log.debug("로그인 성공 처리 완료 - userId: {}, clientIp: {}", user.getId(), clientIp);
@@ -88,6 +91,7 @@ public class LoginService {
         if (user.getUserProfile() != null) {
             user.getUserProfile().incrementFailedLoginCount();
             userRepository.save(user);
+            userPrincipalCache.evict(user.getId());
 
             log.debug("로그인 실패 처리 완료 - userId: {}, failedCount: {}, clientIp: {}",
                     user.getId(), user.getUserProfile().getFailedLoginCount(), clientIp);
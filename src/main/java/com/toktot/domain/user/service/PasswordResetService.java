@@ -2,6 +2,7 @@ package com.toktot.domain.user.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.user.User;
 import com.toktot.domain.user.repository.UserRepository;
 import com.toktot.domain.user.type.AuthProvider;
@@ -25,6 +26,7 @@ public class PasswordResetService {
     private final EmailService emailService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
 
     private static final String RESET_TOKEN_PREFIX = "password_reset:";
     private static final String RESET_COOLDOWN_PREFIX = "reset_cooldown:";
@@ -162,6 +164,7 @@ public class PasswordResetService {
         }
 
         userRepository.save(user);
+        userPrincipalCache.evict(user.getId());
 
         log.debug("사용자 비밀번호 업데이트 완료 - userId: {}", user.getId());
     }
@@ -2,6 +2,7 @@ package com.toktot.domain.user.service;
 
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
+import com.toktot.config.security.UserPrincipalCache;
 import com.toktot.domain.folder.service.FolderService;
 import com.toktot.domain.review.service.ReviewSessionService;
 import com.toktot.domain.user.User;
@@ -23,12 +24,14 @@ public class UserService {
     private final ReviewSessionService reviewSessionService;
     private final FolderService folderService;
     private final UserInfoRepositoryImpl userInfoRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Transactional
     public void deleteUser(Long userId) {
         User user = findUser(userId);
         deleteUserRelatedData(userId);
         user.softDelete();
+        userPrincipalCache.evict(userId);
     }
 
     public UserInfoResponse getUserInfo(Long userId) {
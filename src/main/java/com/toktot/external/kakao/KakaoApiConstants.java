@@ -42,6 +42,7 @@ public final class KakaoApiConstants {
     public static final String LOG_API_CALL_FAILURE = "카카오맵 API 호출 실패: endpoint={}, errorMessage={}";
 
     public static final int DEFAULT_PAGE = 1;
+    public static final int MAX_PAGE = 45;
     public static final int MIN_RADIUS = 0;
     public static final int MAX_RADIUS = 20000;
 
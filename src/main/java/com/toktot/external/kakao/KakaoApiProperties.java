@@ -20,6 +20,13 @@ public class KakaoApiProperties {
     private Integer maxRetryCount = 3;
     private Long retryDelayMs = 1000L;
 
+    private Integer maxConcurrentRequests = 4;
+    private Integer requestsPerSecond = 10;
+
+    private Long cacheTtlSeconds = 600L;
+    private Long localCacheTtlSeconds = 60L;
+    private Integer localCacheMaxSize = 1000;
+
     private Integer defaultPageSize = 15;
     private Integer maxPageSize = 45;
     private Integer defaultRadius = 1000;
@@ -1,18 +1,21 @@
 package com.toktot.external.kakao.config;
 
 import com.toktot.external.kakao.KakaoApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @RequiredArgsConstructor
@@ -20,18 +23,38 @@ import java.time.Duration;
 public class KakaoApiConfig {
 
     private final KakaoApiProperties kakaoApiProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean("kakaoRestTemplate")
     public RestTemplate kakaoRestTemplate() {
         return new RestTemplateBuilder()
-                .setConnectTimeout(Duration.ofMillis(kakaoApiProperties.getConnectionTimeout()))
-                .setReadTimeout(Duration.ofMillis(kakaoApiProperties.getReadTimeout()))
-                .requestFactory(() -> new BufferingClientHttpRequestFactory(new SimpleClientHttpRequestFactory()))
+                .requestFactory(this::kakaoClientHttpRequestFactory)
+                .additionalInterceptors(new KakaoApiMetricsInterceptor(meterRegistry))
                 .errorHandler(kakaoApiErrorHandler())
                 .messageConverters(new MappingJackson2HttpMessageConverter())
                 .build();
     }
 
+    private JdkClientHttpRequestFactory kakaoClientHttpRequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(kakaoApiProperties.getConnectionTimeout()))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(kakaoApiProperties.getReadTimeout()));
+
+        log.info("카카오 HTTP 클라이언트 초기화 완료 - connectTimeout: {}ms, readTimeout: {}ms",
+                kakaoApiProperties.getConnectionTimeout(), kakaoApiProperties.getReadTimeout());
+        return requestFactory;
+    }
+
+    @Bean(name = "kakaoRequestExecutor", destroyMethod = "close")
+    public ExecutorService kakaoRequestExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kakao-", 0).factory());
+    }
+
     @Bean
     public ResponseErrorHandler kakaoApiErrorHandler() {
         return new KakaoApiErrorHandler();
@@ -0,0 +1,39 @@
+package com.toktot.external.kakao.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class KakaoApiMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "kakao.api.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("카카오 API 호출 지연 시간")
+                    .tag("path", request.getURI().getPath())
+                    .tag("status", status)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.toktot.external.kakao.service;
+
+import com.toktot.common.exception.ErrorCode;
+import com.toktot.common.exception.ToktotException;
+import com.toktot.external.kakao.KakaoApiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class KakaoApiRateLimiter {
+
+    private final Semaphore concurrentRequests;
+    private final long minIntervalNanos;
+    private final long backOffNanos;
+
+    private long nextRequestAt = System.nanoTime();
+    private volatile long blockedUntil = 0L;
+
+    public KakaoApiRateLimiter(KakaoApiProperties kakaoApiProperties, MeterRegistry meterRegistry) {
+        int maxConcurrentRequests = kakaoApiProperties.getMaxConcurrentRequests();
+
+        this.concurrentRequests = new Semaphore(maxConcurrentRequests, true);
+        this.minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / kakaoApiProperties.getRequestsPerSecond();
+        this.backOffNanos = TimeUnit.MILLISECONDS.toNanos(kakaoApiProperties.getRetryDelayMs());
+
+        Gauge.builder("kakao.api.requests.active", concurrentRequests,
+                        semaphore -> maxConcurrentRequests - semaphore.availablePermits())
+                .description("진행 중인 카카오 API 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("kakao.api.requests.waiting", concurrentRequests, Semaphore::getQueueLength)
+                .description("호출 슬롯을 기다리는 카카오 API 요청 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> request) {
+        try {
+            concurrentRequests.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, "카카오 API 호출 대기 중 중단되었습니다.");
+        }
+
+        try {
+            waitForTurn();
+            return request.get();
+        } finally {
+            concurrentRequests.release();
+        }
+    }
+
+    public void backOff() {
+        blockedUntil = System.nanoTime() + backOffNanos;
+        log.warn("카카오 API 호출 한도 초과 - {}ms 동안 호출을 지연합니다.", TimeUnit.NANOSECONDS.toMillis(backOffNanos));
+    }
+
+    private void waitForTurn() {
+        long waitNanos;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            long startAt = Math.max(now, Math.max(nextRequestAt, blockedUntil));
+            nextRequestAt = startAt + minIntervalNanos;
+            waitNanos = startAt - now;
+        }
+
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, "카카오 API 호출 대기 중 중단되었습니다.");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.toktot.domain.search.type.SortType;
 import com.toktot.external.kakao.KakaoApiConstants;
 import com.toktot.external.kakao.KakaoApiProperties;
 import com.toktot.external.kakao.dto.response.KakaoPlaceSearchResponse;
+import com.toktot.external.kakao.exception.KakaoApiException;
 import com.toktot.web.dto.request.LocationFilterRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,10 +17,17 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -29,19 +37,26 @@ public class KakaoMapService {
     private final RestTemplate restTemplate;
 
     private final KakaoApiProperties kakaoApiProperties;
+    private final KakaoApiRateLimiter kakaoApiRateLimiter;
+    private final KakaoResponseCache kakaoResponseCache;
+    private final ExecutorService kakaoRequestExecutor;
+
+    public Future<KakaoPlaceSearchResponse> searchJejuAllFoodAndCafePlaceAsync(String query, Integer page, LocationFilterRequest location, SortType sort) {
+        return kakaoRequestExecutor.submit(() -> searchJejuAllFoodAndCafePlace(query, page, location, sort));
+    }
 
     public KakaoPlaceSearchResponse searchJejuAllFoodAndCafePlace(String query, Integer page, LocationFilterRequest location, SortType sort) {
         UriComponentsBuilder builder = UriComponentsBuilder
                 .fromUriString(kakaoApiProperties.getBaseUrl())
                 .path(KakaoApiConstants.KEYWORD_ENDPOINT)
-                .queryParam(KakaoApiConstants.PARAM_QUERY, query)
+                .queryParam(KakaoApiConstants.PARAM_QUERY, normalizeQuery(query))
                 .queryParam(KakaoApiConstants.PARAM_PAGE, page)
                 .queryParam(KakaoApiConstants.PARAM_SIZE, KakaoApiConstants.DEFAULT_SIZE)
                 .queryParam(KakaoApiConstants.PARAM_RECT, KakaoApiConstants.JEJU_RECT);
 
         if (location != null) {
-            builder.queryParam(KakaoApiConstants.PARAM_LONGITUDE, location.longitude())
-                    .queryParam(KakaoApiConstants.PARAM_LATITUDE, location.latitude())
+            builder.queryParam(KakaoApiConstants.PARAM_LONGITUDE, normalizeCoordinate(location.longitude()))
+                    .queryParam(KakaoApiConstants.PARAM_LATITUDE, normalizeCoordinate(location.latitude()))
                     .queryParam(KakaoApiConstants.PARAM_RADIUS, location.radius());
         }
 
@@ -59,7 +74,7 @@ public class KakaoMapService {
         String url = UriComponentsBuilder
                 .fromUriString(kakaoApiProperties.getBaseUrl())
                 .path(KakaoApiConstants.KEYWORD_ENDPOINT)
-                .queryParam(KakaoApiConstants.PARAM_QUERY, address)
+                .queryParam(KakaoApiConstants.PARAM_QUERY, normalizeQuery(address))
                 .build()
                 .toString();
 
@@ -68,15 +83,70 @@ public class KakaoMapService {
     }
 
     private KakaoPlaceSearchResponse executeKakaoPlaceSearch(String url) {
+        return kakaoResponseCache.getOrLoad(url, () -> requestKakaoPlaceSearch(url));
+    }
+
+    private KakaoPlaceSearchResponse requestKakaoPlaceSearch(String url) {
+        int maxAttempts = Math.max(1, kakaoApiProperties.getMaxRetryCount());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requestKakaoPlaceSearchOnce(url);
+            } catch (KakaoApiException | ResourceAccessException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw translateFailure(e, url);
+                }
+
+                long delayMs = calculateRetryDelay(attempt);
+                log.warn("카카오 API 호출 재시도 - attempt: {}/{}, delay: {}ms, error: {}",
+                        attempt + 1, maxAttempts, delayMs, e.getMessage());
+                sleepBeforeRetry(delayMs);
+            }
+        }
+    }
+
+    private RuntimeException translateFailure(RuntimeException e, String url) {
+        if (e instanceof ResourceAccessException) {
+            log.error("Failed to call Kakao API. URL: {}", url, e);
+            return new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, e.getMessage());
+        }
+
+        return e;
+    }
+
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof KakaoApiException kakaoApiException) {
+            return !KakaoApiConstants.ERROR_INVALID_API_KEY.equals(kakaoApiException.getErrorCode());
+        }
+
+        return true;
+    }
+
+    private long calculateRetryDelay(int attempt) {
+        long baseDelayMs = kakaoApiProperties.getRetryDelayMs() * (1L << (attempt - 1));
+        return baseDelayMs / 2 + ThreadLocalRandom.current().nextLong(baseDelayMs / 2 + 1);
+    }
+
+    private void sleepBeforeRetry(long delayMs) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, "카카오 API 재시도 대기 중 중단되었습니다.");
+        }
+    }
+
+    private KakaoPlaceSearchResponse requestKakaoPlaceSearchOnce(String url) {
         try {
             HttpEntity<Void> entity = new HttpEntity<>(createHeaders());
 
-            ResponseEntity<KakaoPlaceSearchResponse> responseEntity = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    new ParameterizedTypeReference<>() {
-                    });
+            ResponseEntity<KakaoPlaceSearchResponse> responseEntity = kakaoApiRateLimiter.execute(() ->
+                    restTemplate.exchange(
+                            url,
+                            HttpMethod.GET,
+                            entity,
+                            new ParameterizedTypeReference<KakaoPlaceSearchResponse>() {
+                            }));
 
             KakaoPlaceSearchResponse response = responseEntity.getBody();
 
@@ -86,6 +156,13 @@ public class KakaoMapService {
 
             log.info(KakaoApiConstants.LOG_API_CALL_SUCCESS, response.getResultCount());
             return response;
+        } catch (KakaoApiException e) {
+            if (KakaoApiConstants.ERROR_QUOTA_EXCEEDED.equals(e.getErrorCode())) {
+                kakaoApiRateLimiter.backOff();
+            }
+            throw e;
+        } catch (ResourceAccessException e) {
+            throw e;
         } catch (RestClientException e) {
             log.error("Failed to call Kakao API. URL: {}", url, e);
             throw new ToktotException(ErrorCode.KAKAO_LOCAL_SERVICE_ERROR, e.getMessage());
@@ -96,7 +173,7 @@ public class KakaoMapService {
         String url = UriComponentsBuilder
                 .fromUriString(kakaoApiProperties.getBaseUrl())
                 .path(KakaoApiConstants.KEYWORD_ENDPOINT)
-                .queryParam(KakaoApiConstants.PARAM_QUERY, restaurantName)
+                .queryParam(KakaoApiConstants.PARAM_QUERY, normalizeQuery(restaurantName))
                 .queryParam(KakaoApiConstants.PARAM_PAGE, 1)
                 .queryParam(KakaoApiConstants.PARAM_SIZE, KakaoApiConstants.DEFAULT_SIZE)
                 .queryParam(KakaoApiConstants.PARAM_RECT, KakaoApiConstants.JEJU_RECT)
@@ -107,6 +184,22 @@ public class KakaoMapService {
         return response.filterFoodAndCafe();
     }
 
+    private String normalizeQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+
+        return query.trim().replaceAll("\\s+", " ");
+    }
+
+    private String normalizeCoordinate(Double coordinate) {
+        if (coordinate == null) {
+            return null;
+        }
+
+        return String.format(Locale.ROOT, "%.4f", coordinate);
+    }
+
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.set(KakaoApiConstants.HEADER_AUTHORIZATION,
@@ -0,0 +1,141 @@
+package com.toktot.external.kakao.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toktot.external.kakao.KakaoApiProperties;
+import com.toktot.external.kakao.dto.response.KakaoMeta;
+import com.toktot.external.kakao.dto.response.KakaoPlaceInfo;
+import com.toktot.external.kakao.dto.response.KakaoPlaceSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoResponseCache {
+
+    private static final String REDIS_KEY_PREFIX = "kakao:local:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final KakaoApiProperties kakaoApiProperties;
+    private final ExecutorService kakaoRequestExecutor;
+
+    private final Map<String, CachedResponse> localCache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<KakaoPlaceSearchResponse>> inFlightRequests = new ConcurrentHashMap<>();
+
+    public KakaoPlaceSearchResponse getOrLoad(String cacheKey, Supplier<KakaoPlaceSearchResponse> loader) {
+        CachedResponse cached = localCache.get(cacheKey);
+        if (cached != null && cached.isValid()) {
+            return cached.response();
+        }
+
+        KakaoPlaceSearchResponse redisCached = readFromRedis(cacheKey);
+        if (redisCached != null) {
+            putLocal(cacheKey, redisCached);
+            return redisCached;
+        }
+
+        CompletableFuture<KakaoPlaceSearchResponse> request = new CompletableFuture<>();
+        CompletableFuture<KakaoPlaceSearchResponse> inFlight = inFlightRequests.putIfAbsent(cacheKey, request);
+
+        if (inFlight != null) {
+            log.debug("진행 중인 카카오 API 요청 결과 공유 - key: {}", cacheKey);
+            return awaitInFlight(inFlight);
+        }
+
+        // 호출 스레드가 취소(interrupt)되어도 같은 키를 기다리는 다른 요청이 함께 실패하지 않도록 별도 스레드에서 로드한다.
+        try {
+            kakaoRequestExecutor.execute(() -> load(cacheKey, loader, request));
+        } catch (RejectedExecutionException e) {
+            load(cacheKey, loader, request);
+        }
+
+        return awaitInFlight(request);
+    }
+
+    private void load(String cacheKey, Supplier<KakaoPlaceSearchResponse> loader,
+                      CompletableFuture<KakaoPlaceSearchResponse> request) {
+        try {
+            KakaoPlaceSearchResponse response = loader.get();
+            putLocal(cacheKey, response);
+            writeToRedis(cacheKey, response);
+            request.complete(response);
+        } catch (Throwable e) {
+            request.completeExceptionally(e);
+        } finally {
+            inFlightRequests.remove(cacheKey, request);
+        }
+    }
+
+    private KakaoPlaceSearchResponse awaitInFlight(CompletableFuture<KakaoPlaceSearchResponse> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private KakaoPlaceSearchResponse readFromRedis(String cacheKey) {
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + cacheKey);
+            if (json == null) {
+                return null;
+            }
+
+            CachedPayload payload = objectMapper.readValue(json, CachedPayload.class);
+            return new KakaoPlaceSearchResponse(payload.documents(), payload.meta(), null);
+        } catch (Exception e) {
+            log.warn("카카오 응답 캐시 조회 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(String cacheKey, KakaoPlaceSearchResponse response) {
+        try {
+            String json = objectMapper.writeValueAsString(new CachedPayload(response.getPlaceInfos(), response.meta()));
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + cacheKey, json,
+                    Duration.ofSeconds(kakaoApiProperties.getCacheTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("카카오 응답 캐시 저장 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private void putLocal(String cacheKey, KakaoPlaceSearchResponse response) {
+        if (localCache.size() >= kakaoApiProperties.getLocalCacheMaxSize()) {
+            localCache.values().removeIf(cached -> !cached.isValid());
+
+            if (localCache.size() >= kakaoApiProperties.getLocalCacheMaxSize()) {
+                localCache.clear();
+            }
+        }
+
+        localCache.put(cacheKey, new CachedResponse(response,
+                LocalDateTime.now().plusSeconds(kakaoApiProperties.getLocalCacheTtlSeconds())));
+    }
+
+    private record CachedResponse(KakaoPlaceSearchResponse response, LocalDateTime expiresAt) {
+
+        private boolean isValid() {
+            return LocalDateTime.now().isBefore(expiresAt);
+        }
+    }
+
+    private record CachedPayload(List<KakaoPlaceInfo> documents, KakaoMeta meta) {
+    }
+}
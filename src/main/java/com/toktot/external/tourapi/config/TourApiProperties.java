@@ -28,5 +28,14 @@ public class TourApiProperties {
     private String arrange = "C";
     private boolean enableMetrics = true;
     private boolean enableErrorNotification = true;
+    private Batch batch = new Batch();
 
+    @Getter
+    @Setter
+    public static class Batch {
+        private int chunkSize = 100;
+        private int concurrency = 4;
+        private int requestsPerSecond = 20;
+        private int resyncIntervalDays = 7;
+    }
 }
@@ -0,0 +1,13 @@
+package com.toktot.external.tourapi.dto;
+
+public record TourApiPageResult(
+        int pageNo,
+        int numOfRows,
+        int totalCount,
+        int itemCount
+) {
+
+    public boolean hasNextPage() {
+        return itemCount > 0 && (long) pageNo * numOfRows < totalCount;
+    }
+}
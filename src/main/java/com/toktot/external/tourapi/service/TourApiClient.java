@@ -1,17 +1,24 @@
 package com.toktot.external.tourapi.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toktot.common.exception.ErrorCode;
 import com.toktot.common.exception.ToktotException;
 import com.toktot.external.tourapi.dto.*;
 import com.toktot.external.tourapi.config.TourApiProperties;
+import com.toktot.external.tourapi.exception.TourApiRateLimitException;
 import com.toktot.external.tourapi.mapper.TourApiDetailIntroWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.net.http.HttpClient;
@@ -19,91 +26,184 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
 public class TourApiClient {
 
+    private static final String QUOTA_EXCEEDED_MESSAGE = "LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS";
+    private static final int LIST_PAGE_SIZE = 1000;
+    private static final int NON_JSON_PEEK_LIMIT = 1024;
+
     private final TourApiProperties properties;
+    private final TourApiQuotaTracker quotaTracker;
+    private final MeterRegistry meterRegistry;
     private final HttpClient httpClient = HttpClient.newHttpClient();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType detailIntroResponseType;
 
 
-    public TourApiClient(TourApiProperties properties) {
+    public TourApiClient(TourApiProperties properties, TourApiQuotaTracker quotaTracker, MeterRegistry meterRegistry) {
         this.properties = properties;
+        this.quotaTracker = quotaTracker;
+        this.meterRegistry = meterRegistry;
         this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.detailIntroResponseType = objectMapper.getTypeFactory()
+                .constructParametricType(TourApiResponse.class, TourApiDetailIntroWrapper.class);
     }
 
-    public TourApiResponse<TourApiItemsWrapper> getAllJejuRestaurants() {
+    public TourApiPageResult fetchJejuRestaurantPage(int pageNo, Consumer<TourApiRestaurant> restaurantConsumer) {
         try {
             String encodedKey = URLEncoder.encode(properties.getServiceKey(), StandardCharsets.UTF_8);
-            String url = buildRestaurantListUrl(encodedKey);
-            HttpResponse<String> response = getStringHttpResponse(url);
-            return getTourApiResponse(response);
+            String url = buildRestaurantListUrl(encodedKey, pageNo);
+            HttpResponse<InputStream> response = sendWithRetry(url, TourApiConstants.ENDPOINT_AREA_BASED_LIST,
+                    HttpResponse.BodyHandlers.ofInputStream());
+
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR);
+                }
+
+                TourApiPageResult page = streamItems(openJsonParser(body), TourApiRestaurant.class, restaurantConsumer);
+                return new TourApiPageResult(pageNo, page.numOfRows() > 0 ? page.numOfRows() : LIST_PAGE_SIZE,
+                        page.totalCount(), page.itemCount());
+            }
+        } catch (TourApiRateLimitException | ToktotException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, e.getMessage());
         } catch (Exception e) {
             throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, e.getMessage());
         }
     }
 
-    private TourApiResponse<TourApiItemsWrapper> getTourApiResponse(HttpResponse<String> response) {
-        if (response.statusCode() != 200) {
-            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR);
-        }
+    private JsonParser openJsonParser(InputStream body) throws IOException {
+        BufferedInputStream bufferedBody = new BufferedInputStream(body);
+        bufferedBody.mark(NON_JSON_PEEK_LIMIT);
 
-        String body = response.body();
+        int firstByte;
+        do {
+            firstByte = bufferedBody.read();
+        } while (firstByte != -1 && Character.isWhitespace(firstByte));
 
-        if (body == null || body.trim().isEmpty()) {
-            return null;
+        bufferedBody.reset();
+
+        if (firstByte == '{') {
+            return objectMapper.getFactory().createParser(bufferedBody);
         }
 
-        if (body.contains("\"resultCode\"") &&
-                body.contains("\"resultMsg\"") &&
-                !body.contains("\"response\"")) {
+        String errorBody = new String(bufferedBody.readAllBytes(), StandardCharsets.UTF_8);
+        checkQuotaExceeded(errorBody);
+        log.error("TourAPI 오류 응답: {}", errorBody);
+        throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, "TourAPI 응답 형식 오류");
+    }
 
-            log.error("TourAPI 오류 응답: {}", body);
-            return null;
+    private <T> TourApiPageResult streamItems(JsonParser parser, Class<T> itemType, Consumer<T> itemConsumer) throws IOException {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, "TourAPI 응답 형식 오류");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+
+                if ("response".equals(fieldName) && parser.currentToken() == JsonToken.START_OBJECT) {
+                    return streamResponse(parser, itemType, itemConsumer);
+                }
+                parser.skipChildren();
+            }
         }
 
-        try {
-            TourApiResponse<TourApiItemsWrapper> apiResponse = objectMapper.readValue(
-                    body,
-                    objectMapper.getTypeFactory().constructParametricType(
-                            TourApiResponse.class,
-                            TourApiItemsWrapper.class
-                    )
-            );
-
-            return validateResponse(apiResponse);
-        } catch (Exception e) {
-            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, e.getMessage());
+        log.warn("TourAPI 응답 구조 오류: 필수 필드 누락");
+        return new TourApiPageResult(0, 0, 0, 0);
+    }
+
+    private <T> TourApiPageResult streamResponse(JsonParser parser, Class<T> itemType, Consumer<T> itemConsumer) throws IOException {
+        int numOfRows = 0;
+        int pageNo = 0;
+        int totalCount = 0;
+        int itemCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if ("header".equals(fieldName)) {
+                validateHeader(parser.readValueAs(TourApiResponse.TourApiHeader.class));
+            } else if ("body".equals(fieldName) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String bodyField = parser.currentName();
+                    parser.nextToken();
+
+                    switch (bodyField) {
+                        case "items" -> itemCount = streamItemArray(parser, itemType, itemConsumer);
+                        case "numOfRows" -> numOfRows = parser.getValueAsInt();
+                        case "pageNo" -> pageNo = parser.getValueAsInt();
+                        case "totalCount" -> totalCount = parser.getValueAsInt();
+                        default -> parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
         }
+
+        return new TourApiPageResult(pageNo, numOfRows, totalCount, itemCount);
     }
 
-    private TourApiResponse<TourApiItemsWrapper> validateResponse(TourApiResponse<TourApiItemsWrapper> apiResponse) {
-        if (apiResponse != null && apiResponse.response() != null && apiResponse.response().header() != null) {
-            String resultCode = apiResponse.response().header().resultCode();
-            String resultMsg = apiResponse.response().header().resultMsg();
+    private <T> int streamItemArray(JsonParser parser, Class<T> itemType, Consumer<T> itemConsumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
 
-            log.debug("TourAPI 응답 헤더 - resultCode: {}, resultMsg: {}", resultCode, resultMsg);
+        int itemCount = 0;
 
-            if (TourApiConstants.RESPONSE_CODE_SUCCESS.equals(resultCode)) {
-                return apiResponse;
-            } else {
-                String errorMessage = "TourAPI 오류: resultCode = " + resultCode + ", resultMsg = " + resultMsg;
-                throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, errorMessage);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (!"item".equals(fieldName)) {
+                parser.skipChildren();
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    itemConsumer.accept(parser.readValueAs(itemType));
+                    itemCount++;
+                }
+            } else if (token == JsonToken.START_OBJECT) {
+                itemConsumer.accept(parser.readValueAs(itemType));
+                itemCount++;
             }
-        } else {
-            log.warn("TourAPI 응답 구조 오류: 필수 필드 누락");
-            return null;
         }
+
+        return itemCount;
     }
 
-    private String buildRestaurantListUrl(String encodedKey) {
+    private void validateHeader(TourApiResponse.TourApiHeader header) {
+        if (header == null) {
+            return;
+        }
+
+        log.debug("TourAPI 응답 헤더 - resultCode: {}, resultMsg: {}", header.resultCode(), header.resultMsg());
+
+        if (!TourApiConstants.RESPONSE_CODE_SUCCESS.equals(header.resultCode())) {
+            String errorMessage = "TourAPI 오류: resultCode = " + header.resultCode() + ", resultMsg = " + header.resultMsg();
+            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR, errorMessage);
+        }
+    }
+
+    private String buildRestaurantListUrl(String encodedKey, int pageNo) {
         StringBuilder url = new StringBuilder(properties.getBaseUrl())
                 .append(TourApiConstants.ENDPOINT_AREA_BASED_LIST)
                 .append("?serviceKey=").append(encodedKey)
-                .append("&numOfRows=1000")
-                .append("&pageNo=").append(1)
+                .append("&numOfRows=").append(LIST_PAGE_SIZE)
+                .append("&pageNo=").append(pageNo)
                 .append("&MobileOS=ETC")
                 .append("&MobileApp=TOKTOT")
                 .append("&_type=json")
@@ -114,14 +214,76 @@ public class TourApiClient {
         return url.toString();
     }
 
-    private HttpResponse<String> getStringHttpResponse(String url) throws IOException, InterruptedException {
+    private HttpResponse<String> getStringHttpResponse(String url, String endpoint) throws IOException, InterruptedException {
+        HttpResponse<String> response = sendWithRetry(url, endpoint, HttpResponse.BodyHandlers.ofString());
+        checkQuotaExceeded(response.body());
+        return response;
+    }
+
+    private void checkQuotaExceeded(String body) {
+        if (body != null && body.contains(QUOTA_EXCEEDED_MESSAGE)) {
+            quotaTracker.markExhausted();
+            throw new TourApiRateLimitException("TourAPI 서버 호출 한도 초과", 0, quotaTracker.nextResetTime());
+        }
+    }
+
+    private <T> HttpResponse<T> sendWithRetry(String url, String endpoint,
+                                              HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
         HttpRequest request = HttpRequest.newBuilder()
                 .uri(URI.create(url))
                 .timeout(Duration.ofMillis(properties.getReadTimeout()))
                 .GET()
                 .build();
 
-        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        int maxAttempts = Math.max(0, properties.getMaxRetries()) + 1;
+
+        for (int attempt = 1; ; attempt++) {
+            quotaTracker.acquire();
+            long startTime = System.nanoTime();
+
+            try {
+                HttpResponse<T> response = httpClient.send(request, bodyHandler);
+                recordMetrics(endpoint, String.valueOf(response.statusCode()), startTime);
+
+                if (!isRetryableStatus(response.statusCode()) || attempt >= maxAttempts) {
+                    return response;
+                }
+
+                if (response.body() instanceof InputStream discardedBody) {
+                    discardedBody.close();
+                }
+
+                log.warn("TourAPI 재시도 - endpoint: {}, status: {}, attempt: {}/{}",
+                        endpoint, response.statusCode(), attempt, maxAttempts);
+            } catch (IOException e) {
+                recordMetrics(endpoint, "IO_ERROR", startTime);
+
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+
+                log.warn("TourAPI 재시도 - endpoint: {}, error: {}, attempt: {}/{}",
+                        endpoint, e.getMessage(), attempt, maxAttempts);
+            }
+
+            Thread.sleep(properties.getRetryDelay() * (1L << (attempt - 1)));
+        }
+    }
+
+    private boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private void recordMetrics(String endpoint, String status, long startTime) {
+        if (!properties.isEnableMetrics()) {
+            return;
+        }
+
+        Timer.builder("tourapi.api.requests")
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
     }
 
     public TourApiResponse<TourApiDetailIntroWrapper> getRestaurantDetailIntro(String contentId) {
@@ -137,7 +299,7 @@ public class TourApiClient {
         long startTime = System.currentTimeMillis();
 
         try {
-            HttpResponse<String> response = getStringHttpResponse(url);
+            HttpResponse<String> response = getStringHttpResponse(url, TourApiConstants.ENDPOINT_DETAIL_INTRO);
             long responseTime = System.currentTimeMillis() - startTime;
 
             log.debug("DetailIntro API 응답: status={}, responseTime={}ms", response.statusCode(), responseTime);
@@ -149,6 +311,8 @@ public class TourApiClient {
             }
             return null;
 
+        } catch (TourApiRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             log.error("DetailIntro API 호출 예외: contentId={}, error={}", contentId, e.getMessage());
             return null;
@@ -162,30 +326,14 @@ public class TourApiClient {
                 return null;
             }
 
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            JsonNode responseNode = rootNode.get("response");
-
-            if (responseNode != null) {
-                JsonNode headerNode = responseNode.get("header");
-                if (headerNode != null) {
-                    String resultCode = headerNode.get("resultCode").asText();
-                    String resultMsg = headerNode.get("resultMsg").asText();
-                    log.debug("DetailIntro API 헤더: resultCode={}, resultMsg={}", resultCode, resultMsg);
-                }
-            }
-
-            TourApiResponse<TourApiDetailIntroWrapper> apiResponse = objectMapper.readValue(
-                    responseBody,
-                    objectMapper.getTypeFactory().constructParametricType(
-                            TourApiResponse.class,
-                            TourApiDetailIntroWrapper.class
-                    )
-            );
+            TourApiResponse<TourApiDetailIntroWrapper> apiResponse = objectMapper.readValue(responseBody, detailIntroResponseType);
 
             if (apiResponse != null && apiResponse.response() != null && apiResponse.response().header() != null) {
                 String resultCode = apiResponse.response().header().resultCode();
+                log.debug("DetailIntro API 헤더: resultCode={}, resultMsg={}",
+                        resultCode, apiResponse.response().header().resultMsg());
 
-                if ("0000".equals(resultCode)) {
+                if (TourApiConstants.RESPONSE_CODE_SUCCESS.equals(resultCode)) {
                     log.info("DetailIntro API 호출 성공: contentId={}, responseTime={}ms", contentId, responseTime);
                     return apiResponse;
                 } else {
@@ -227,11 +375,13 @@ public class TourApiClient {
 
         try {
             log.info("DetailCommon API 호출: contentId={}", contentId);
-            HttpResponse<String> response = getStringHttpResponse(url);
+            HttpResponse<String> response = getStringHttpResponse(url, TourApiConstants.ENDPOINT_DETAIL_COMMON);
 
             if (response.statusCode() == 200) {
                 return processDetailCommonResponse(response.body(), contentId);
             }
+        } catch (TourApiRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             log.error("DetailCommon API 호출 실패: contentId={}", contentId, e);
         }
@@ -241,7 +391,7 @@ public class TourApiClient {
 
     private String buildDetailCommonUrl(String encodedKey, String contentId) {
         return new StringBuilder(properties.getBaseUrl())
-                .append("/detailCommon2")
+                .append(TourApiConstants.ENDPOINT_DETAIL_COMMON)
                 .append("?serviceKey=").append(encodedKey)
                 .append("&MobileOS=ETC")
                 .append("&MobileApp=AppTest")
@@ -254,13 +404,11 @@ public class TourApiClient {
 
     private TourApiDetailCommon processDetailCommonResponse(String responseBody, String contentId) {
         try {
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            JsonNode itemsNode = rootNode.path("response").path("body").path("items").path("item");
-
+            List<TourApiDetailCommon> details = new ArrayList<>(1);
+            streamItems(objectMapper.getFactory().createParser(responseBody), TourApiDetailCommon.class, details::add);
 
-            if (itemsNode.isArray() && !itemsNode.isEmpty()) {
-                JsonNode firstItem = itemsNode.get(0);
-                return objectMapper.treeToValue(firstItem, TourApiDetailCommon.class);
+            if (!details.isEmpty()) {
+                return details.get(0);
             }
 
         } catch (Exception e) {
@@ -2,17 +2,12 @@ package com.toktot.external.tourapi.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.toktot.domain.restaurant.Restaurant;
-import com.toktot.domain.restaurant.repository.RestaurantRepository;
-import com.toktot.domain.restaurant.type.DataSource;
 import com.toktot.external.tourapi.dto.TourApiDetailIntro;
 import com.toktot.external.tourapi.dto.TourApiResponse;
 import com.toktot.external.tourapi.mapper.TourApiDetailIntroWrapper;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -22,12 +17,9 @@ import java.util.*;
 public class TourApiDetailIntroService {
 
     private final TourApiClient tourApiClient;
-    private final RestaurantRepository restaurantRepository;
+    private final TourApiDetailSyncExecutor tourApiDetailSyncExecutor;
     private final ObjectMapper objectMapper;
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
     private void updateFields(TourApiDetailIntro detailIntro, Restaurant restaurant) {
         try {
             if (detailIntro.openTimeFood() != null && !detailIntro.openTimeFood().trim().isEmpty()) {
@@ -103,66 +95,28 @@ public class TourApiDetailIntroService {
         }
     }
 
-    @Transactional
     public int syncAllRestaurantsDetailIntro() {
-        List<Restaurant> restaurants = restaurantRepository.findAllByDataSourceAndIsActive(DataSource.TOUR_API, true);
-
-        int total = restaurants.size();
-        int success = 0;
-
-        log.info("DetailIntro 배치 동기화 시작: {} 개 매장", total);
-
-        for (Restaurant restaurant : restaurants) {
-            if (restaurant.getExternalTourApiId() != null) {
-                try {
-                    if (updateRestaurantDetailIntroInternal(restaurant)) {
-                        success++;
-                        if (success % 10 == 0) {
-                            log.info("진행 상황: {}/{}", success, total);
-                        }
-                    }
-                    Thread.sleep(200);
-                } catch (Exception e) {
-                    log.error("매장 업데이트 실패: id={}", restaurant.getId(), e);
-                }
-            } else {
-                log.warn("contentId가 null: id={}", restaurant.getId());
-            }
-        }
-
-        log.info("DetailIntro 배치 동기화 완료: {}/{} 성공", success, total);
-        return success;
+        return tourApiDetailSyncExecutor.syncInChunks("DetailIntro", this::fetchDetailIntro, this::applyDetailIntro);
     }
 
-    private boolean updateRestaurantDetailIntroInternal(Restaurant restaurant) {
-        String contentId = restaurant.getExternalTourApiId();
-
-        try {
-            Restaurant managedRestaurant = entityManager.find(Restaurant.class, restaurant.getId());
-            if (managedRestaurant == null) {
-                log.warn("매장을 찾을 수 없습니다: id={}", restaurant.getId());
-                return false;
-            }
-
-            TourApiResponse<TourApiDetailIntroWrapper> response = tourApiClient.getRestaurantDetailIntro(contentId);
+    private TourApiDetailIntro fetchDetailIntro(String contentId) {
+        TourApiResponse<TourApiDetailIntroWrapper> response = tourApiClient.getRestaurantDetailIntro(contentId);
 
-            if (response != null && response.response() != null && response.response().body() != null) {
-                TourApiDetailIntro detailIntro = response.response().body().items().getFirstItem();
-
-                if (detailIntro != null) {
-                    updateFields(detailIntro, managedRestaurant);
-                    return true;
-                } else {
-                    log.warn("DetailIntro가 null입니다: contentId={}", contentId);
-                }
-            } else {
-                log.warn("응답이 유효하지 않습니다: contentId={}", contentId);
-            }
+        if (response == null || response.response() == null || response.response().body() == null) {
+            log.warn("응답이 유효하지 않습니다: contentId={}", contentId);
+            return null;
+        }
 
-        } catch (Exception e) {
-            log.error("업데이트 실패: contentId={}", contentId, e);
+        TourApiDetailIntro detailIntro = response.response().body().items().getFirstItem();
+        if (detailIntro == null) {
+            log.warn("DetailIntro가 null입니다: contentId={}", contentId);
         }
 
-        return false;
+        return detailIntro;
+    }
+
+    private boolean applyDetailIntro(Restaurant restaurant, TourApiDetailIntro detailIntro) {
+        updateFields(detailIntro, restaurant);
+        return true;
     }
 }
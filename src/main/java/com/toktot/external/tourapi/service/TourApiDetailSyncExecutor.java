@@ -0,0 +1,182 @@
+package com.toktot.external.tourapi.service;
+
+import com.toktot.domain.restaurant.Restaurant;
+import com.toktot.domain.restaurant.repository.RestaurantRepository;
+import com.toktot.domain.restaurant.type.DataSource;
+import com.toktot.external.tourapi.config.TourApiProperties;
+import com.toktot.external.tourapi.exception.TourApiRateLimitException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiDetailSyncExecutor {
+
+    private final RestaurantRepository restaurantRepository;
+    private final TourApiRateLimiter tourApiRateLimiter;
+    private final TourApiQuotaTracker quotaTracker;
+    private final TourApiSyncCheckpointStore checkpointStore;
+    private final TourApiProperties tourApiProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> int syncInChunks(String syncName,
+                                Function<String, T> detailFetcher,
+                                BiPredicate<Restaurant, T> detailApplier) {
+        int chunkSize = tourApiProperties.getBatch().getChunkSize();
+        int concurrency = tourApiProperties.getBatch().getConcurrency();
+
+        int processed = 0;
+        int success = 0;
+        boolean completed = false;
+        long lastId = checkpointStore.findLastId(syncName);
+
+        // 완료된 동기화가 다음 실행에서 바로 처음부터 다시 돌면 공유 일일 한도를 모두 써서 다른 동기화가 진행하지 못한다.
+        if (lastId == 0 && checkpointStore.isRecentlyCompleted(syncName)) {
+            log.info("{} 배치 동기화 건너뜀 - 최근 {}일 이내에 완료되었습니다.",
+                    syncName, tourApiProperties.getBatch().getResyncIntervalDays());
+            return 0;
+        }
+
+        if (lastId > 0) {
+            log.info("{} 배치 동기화 재개 - 체크포인트 id: {}", syncName, lastId);
+        }
+        log.info("{} 배치 동기화 시작 - chunkSize: {}, concurrency: {}, 잔여 호출 수: {}",
+                syncName, chunkSize, concurrency, quotaTracker.getRemainingCalls());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            while (true) {
+                int remainingCalls = quotaTracker.getRemainingCalls();
+                if (remainingCalls <= 0) {
+                    log.warn("{} 일일 호출 한도 소진 - 다음 실행에서 id {} 이후부터 재개합니다.", syncName, lastId);
+                    break;
+                }
+
+                List<Object[]> targets = restaurantRepository.findActiveExternalTourApiIdsAfter(
+                        DataSource.TOUR_API, lastId, PageRequest.of(0, Math.min(chunkSize, remainingCalls)));
+
+                if (targets.isEmpty()) {
+                    completed = true;
+                    break;
+                }
+
+                FetchedChunk<T> fetched = fetchDetails(targets, detailFetcher, executor);
+                try {
+                    success += applyDetails(fetched.details(), detailApplier);
+                } catch (Exception e) {
+                    log.error("{} 청크 반영 실패 - 해당 청크를 건너뛰고 계속 진행합니다. 체크포인트 id: {}",
+                            syncName, lastId, e);
+                }
+
+                if (fetched.lastCompletedId() != null) {
+                    processed += fetched.completedCount();
+                    lastId = fetched.lastCompletedId();
+                    checkpointStore.save(syncName, lastId);
+                }
+
+                log.info("{} 진행 상황: {}건 처리, {}건 성공, 체크포인트 id: {}", syncName, processed, success, lastId);
+
+                if (fetched.quotaExhausted()) {
+                    log.warn("{} 호출 한도 초과 응답 - 다음 실행에서 id {} 이후부터 재개합니다.", syncName, lastId);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("{} 배치 동기화 중단 - {}건 처리, 체크포인트 id: {}", syncName, processed, lastId);
+        }
+
+        if (completed) {
+            checkpointStore.clear(syncName);
+            checkpointStore.markCompleted(syncName,
+                    Duration.ofDays(tourApiProperties.getBatch().getResyncIntervalDays()));
+            log.info("{} 배치 동기화 완료: {}/{} 성공", syncName, success, processed);
+        } else {
+            log.info("{} 배치 동기화 일시 중지: {}/{} 성공", syncName, success, processed);
+        }
+
+        return success;
+    }
+
+    private <T> FetchedChunk<T> fetchDetails(List<Object[]> targets,
+                                             Function<String, T> detailFetcher,
+                                             ExecutorService executor) throws InterruptedException {
+        Map<Long, Future<T>> futures = new LinkedHashMap<>();
+
+        for (Object[] target : targets) {
+            Long restaurantId = (Long) target[0];
+            String contentId = (String) target[1];
+
+            futures.put(restaurantId, executor.submit(() -> {
+                tourApiRateLimiter.acquire();
+                return detailFetcher.apply(contentId);
+            }));
+        }
+
+        Map<Long, T> details = new LinkedHashMap<>();
+        Long lastCompletedId = null;
+        int completedCount = 0;
+        boolean quotaExhausted = false;
+
+        for (Map.Entry<Long, Future<T>> entry : futures.entrySet()) {
+            try {
+                T detail = entry.getValue().get();
+                if (detail != null) {
+                    details.put(entry.getKey(), detail);
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TourApiRateLimitException) {
+                    quotaExhausted = true;
+                } else {
+                    log.error("매장 상세 조회 실패: id={}", entry.getKey(), e.getCause());
+                }
+            }
+
+            if (!quotaExhausted) {
+                lastCompletedId = entry.getKey();
+                completedCount++;
+            }
+        }
+
+        return new FetchedChunk<>(details, lastCompletedId, completedCount, quotaExhausted);
+    }
+
+    private <T> int applyDetails(Map<Long, T> details, BiPredicate<Restaurant, T> detailApplier) {
+        if (details.isEmpty()) {
+            return 0;
+        }
+
+        Integer updated = transactionTemplate.execute(status -> {
+            int count = 0;
+
+            for (Restaurant restaurant : restaurantRepository.findAllById(details.keySet())) {
+                try {
+                    if (detailApplier.test(restaurant, details.get(restaurant.getId()))) {
+                        count++;
+                    }
+                } catch (Exception e) {
+                    log.error("매장 업데이트 실패: id={}", restaurant.getId(), e);
+                }
+            }
+
+            return count;
+        });
+
+        return updated != null ? updated : 0;
+    }
+
+    private record FetchedChunk<T>(Map<Long, T> details, Long lastCompletedId, int completedCount, boolean quotaExhausted) {
+    }
+}
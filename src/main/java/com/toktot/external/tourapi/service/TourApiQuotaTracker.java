@@ -0,0 +1,86 @@
+package com.toktot.external.tourapi.service;
+
+import com.toktot.external.tourapi.config.TourApiProperties;
+import com.toktot.external.tourapi.dto.TourApiConstants;
+import com.toktot.external.tourapi.exception.TourApiRateLimitException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiQuotaTracker {
+
+    private static final String QUOTA_KEY_PREFIX = "tourapi:quota:";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final Duration QUOTA_KEY_TTL = Duration.ofDays(2);
+    private static final double WARNING_RATIO = 0.9;
+
+    private final StringRedisTemplate redisTemplate;
+    private final TourApiProperties properties;
+
+    public void acquire() {
+        String key = quotaKey();
+        int limit = properties.getDailyCallLimit();
+
+        Long count;
+        try {
+            count = redisTemplate.opsForValue().increment(key);
+            if (count != null && count == 1) {
+                redisTemplate.expire(key, QUOTA_KEY_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("TourAPI 호출 수 집계 실패 - 제한 없이 진행합니다. error: {}", e.getMessage());
+            return;
+        }
+
+        if (count == null) {
+            return;
+        }
+
+        if (count > limit) {
+            redisTemplate.opsForValue().decrement(key);
+            throw new TourApiRateLimitException("TourAPI 일일 호출 한도 초과: limit=" + limit, 0, nextResetTime());
+        }
+
+        if (count == (long) Math.ceil(limit * WARNING_RATIO)) {
+            log.warn(TourApiConstants.LOG_RATE_LIMIT_WARNING, count, limit, limit - count);
+        }
+    }
+
+    public int getRemainingCalls() {
+        try {
+            String value = redisTemplate.opsForValue().get(quotaKey());
+            int used = value != null ? Integer.parseInt(value) : 0;
+            return Math.max(0, properties.getDailyCallLimit() - used);
+        } catch (Exception e) {
+            log.warn("TourAPI 잔여 호출 수 조회 실패 - error: {}", e.getMessage());
+            return properties.getDailyCallLimit();
+        }
+    }
+
+    public void markExhausted() {
+        try {
+            redisTemplate.opsForValue().set(quotaKey(), String.valueOf(properties.getDailyCallLimit()), QUOTA_KEY_TTL);
+            log.warn("TourAPI 서버 측 호출 한도 초과 응답 - 오늘 남은 호출을 차단합니다.");
+        } catch (Exception e) {
+            log.warn("TourAPI 호출 한도 상태 저장 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    public LocalDateTime nextResetTime() {
+        return LocalDate.now(QUOTA_ZONE).plusDays(1).atStartOfDay();
+    }
+
+    private String quotaKey() {
+        return QUOTA_KEY_PREFIX + LocalDate.now(QUOTA_ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,35 @@
+package com.toktot.external.tourapi.service;
+
+import com.toktot.external.tourapi.config.TourApiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class TourApiRateLimiter {
+
+    private final long minIntervalNanos;
+
+    private long nextRequestAt = System.nanoTime();
+
+    public TourApiRateLimiter(TourApiProperties properties) {
+        this.minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getBatch().getRequestsPerSecond();
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            long startAt = Math.max(now, nextRequestAt);
+            nextRequestAt = startAt + minIntervalNanos;
+            waitNanos = startAt - now;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
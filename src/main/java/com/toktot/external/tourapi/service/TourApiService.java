@@ -1,6 +1,7 @@
 package com.toktot.external.tourapi.service;
 
 import com.toktot.domain.restaurant.Restaurant;
+import com.toktot.external.tourapi.config.TourApiProperties;
 import com.toktot.external.tourapi.dto.*;
 import com.toktot.external.tourapi.mapper.TourApiMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -18,40 +20,61 @@ public class TourApiService {
     private final TourApiClient tourApiClient;
     private final TourApiMapper tourApiMapper;
     private final TourApiSyncService tourApiSyncService;
+    private final TourApiProperties tourApiProperties;
 
     public void findRestaurantsInJeju() {
-        TourApiResponse<TourApiItemsWrapper> response = tourApiClient.getAllJejuRestaurants();
-        if (response == null) { return; }
-        List<TourApiRestaurant> tourApiRestaurants = extractRestaurants(response);
-        if (tourApiRestaurants.isEmpty()) { return; }
+        int chunkSize = tourApiProperties.getBatch().getChunkSize();
+        List<Restaurant> pending = new ArrayList<>(chunkSize);
+        AtomicInteger savedCount = new AtomicInteger();
 
-        for (TourApiRestaurant tourApiRestaurant : tourApiRestaurants) {
-            try {
-                Restaurant restaurant = tourApiMapper.toRestaurant(tourApiRestaurant);
+        int pageNo = 1;
+        int receivedCount = 0;
+        TourApiPageResult page;
 
+        do {
+            page = tourApiClient.fetchJejuRestaurantPage(pageNo, tourApiRestaurant -> {
+                Restaurant restaurant = toRestaurant(tourApiRestaurant);
                 if (restaurant == null) {
                     return;
                 }
 
-                tourApiSyncService.saveOrUpdateRestaurant(restaurant);
-            } catch (Exception e) {
-                log.error("tour api data insert error = {}", e.getMessage());
-            }
-        }
+                pending.add(restaurant);
+                if (pending.size() >= chunkSize) {
+                    savedCount.addAndGet(flush(pending));
+                }
+            });
 
+            receivedCount += page.itemCount();
+            log.info("TourAPI 목록 수집 진행: {}페이지, {}/{}건 수신", pageNo, receivedCount, page.totalCount());
+            pageNo++;
+        } while (page.hasNextPage());
+
+        savedCount.addAndGet(flush(pending));
+        log.info("TourAPI 목록 수집 완료: {}건 수신, 신규 {}건 저장", receivedCount, savedCount.get());
     }
 
-    private List<TourApiRestaurant> extractRestaurants(TourApiResponse<TourApiItemsWrapper> response) {
-        if (response.response() == null ||
-                response.response().body() == null ||
-                response.response().body().items() == null ||
-                response.response().body().items().item() == null) {
-            return new ArrayList<>();
+    private Restaurant toRestaurant(TourApiRestaurant tourApiRestaurant) {
+        try {
+            return tourApiMapper.toRestaurant(tourApiRestaurant);
+        } catch (Exception e) {
+            log.error("tour api data mapping error = {}", e.getMessage());
+            return null;
         }
+    }
 
-        List<TourApiRestaurant> restaurants = response.response().body().items().item();
-        log.debug("페이지에서 {}개 매장 수신", restaurants.size());
-        return restaurants;
+    private int flush(List<Restaurant> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return tourApiSyncService.saveNewRestaurants(pending);
+        } catch (Exception e) {
+            log.error("tour api data insert error = {}", e.getMessage());
+            return 0;
+        } finally {
+            pending.clear();
+        }
     }
 
 }
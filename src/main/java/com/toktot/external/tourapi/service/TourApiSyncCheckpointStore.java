@@ -0,0 +1,65 @@
+package com.toktot.external.tourapi.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiSyncCheckpointStore {
+
+    private static final String CHECKPOINT_KEY_PREFIX = "tourapi:sync:checkpoint:";
+    private static final String COMPLETED_KEY_PREFIX = "tourapi:sync:completed:";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public long findLastId(String syncName) {
+        try {
+            String value = redisTemplate.opsForValue().get(CHECKPOINT_KEY_PREFIX + syncName);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("{} 체크포인트 조회 실패 - 처음부터 진행합니다. error: {}", syncName, e.getMessage());
+            return 0L;
+        }
+    }
+
+    public void save(String syncName, long lastId) {
+        try {
+            redisTemplate.opsForValue().set(CHECKPOINT_KEY_PREFIX + syncName, String.valueOf(lastId), CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("{} 체크포인트 저장 실패 - lastId: {}, error: {}", syncName, lastId, e.getMessage());
+        }
+    }
+
+    public boolean isRecentlyCompleted(String syncName) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(COMPLETED_KEY_PREFIX + syncName));
+        } catch (Exception e) {
+            log.warn("{} 완료 상태 조회 실패 - error: {}", syncName, e.getMessage());
+            return false;
+        }
+    }
+
+    public void markCompleted(String syncName, Duration resyncInterval) {
+        try {
+            redisTemplate.opsForValue().set(COMPLETED_KEY_PREFIX + syncName,
+                    LocalDateTime.now().toString(), resyncInterval);
+        } catch (Exception e) {
+            log.warn("{} 완료 상태 저장 실패 - error: {}", syncName, e.getMessage());
+        }
+    }
+
+    public void clear(String syncName) {
+        try {
+            redisTemplate.delete(CHECKPOINT_KEY_PREFIX + syncName);
+        } catch (Exception e) {
+            log.warn("{} 체크포인트 삭제 실패 - error: {}", syncName, e.getMessage());
+        }
+    }
+}
@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -16,16 +18,24 @@ public class TourApiSyncService {
     private final RestaurantRepository restaurantRepository;
 
     @Transactional
-    public void saveOrUpdateRestaurant(Restaurant restaurant) {
-        if (restaurant == null) {
-            log.warn("유효하지 않은 레스토랑 데이터");
-            return;
+    public int saveNewRestaurants(List<Restaurant> restaurants) {
+        Set<String> contentIds = new HashSet<>();
+        for (Restaurant restaurant : restaurants) {
+            contentIds.add(restaurant.getExternalTourApiId());
         }
 
-        if (restaurantRepository.findByExternalTourApiId(restaurant.getExternalTourApiId()).isEmpty()) {
-            restaurantRepository.save(restaurant);
-            log.info("신규 매장 저장: id={}, name={}", restaurant.getId(), restaurant.getName());
+        Set<String> existingContentIds = new HashSet<>(restaurantRepository.findExistingExternalTourApiIds(contentIds));
+        List<Restaurant> newRestaurants = new ArrayList<>();
+
+        for (Restaurant restaurant : restaurants) {
+            if (existingContentIds.add(restaurant.getExternalTourApiId())) {
+                newRestaurants.add(restaurant);
+            }
         }
+
+        restaurantRepository.saveAll(newRestaurants);
+        log.info("신규 매장 저장: {}건 (수신 {}건)", newRestaurants.size(), restaurants.size());
+        return newRestaurants.size();
     }
 
 }
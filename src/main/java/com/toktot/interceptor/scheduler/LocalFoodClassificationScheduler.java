@@ -0,0 +1,58 @@
+package com.toktot.interceptor.scheduler;
+
+import com.toktot.domain.localfood.LocalFoodType;
+import com.toktot.domain.localfood.service.LocalFoodClassificationService;
+import com.toktot.domain.localfood.service.LocalFoodStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalFoodClassificationScheduler {
+
+    private final LocalFoodClassificationService localFoodClassificationService;
+    private final LocalFoodStatisticsService localFoodStatisticsService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void classifyOnStartup() {
+        classifyLocalFood();
+    }
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void classifyLocalFood() {
+        log.info("향토음식 분류 배치 시작 - version: {}", LocalFoodType.classificationVersion());
+
+        try {
+            int tooltipCount = classifyAll(localFoodClassificationService::classifyNextTooltipChunk);
+            int menuCount = classifyAll(localFoodClassificationService::classifyNextMenuChunk);
+
+            log.info("향토음식 분류 배치 완료 - 툴팁: {}건, 메뉴: {}건", tooltipCount, menuCount);
+
+            if (tooltipCount > 0) {
+                localFoodStatisticsService.rebuildAllStatistics();
+            }
+        } catch (Exception e) {
+            log.error("향토음식 분류 배치 실패", e);
+        }
+    }
+
+    private int classifyAll(IntSupplier classifyNextChunk) {
+        int total = 0;
+        int processed;
+
+        while ((processed = classifyNextChunk.getAsInt()) > 0) {
+            total += processed;
+        }
+
+        return total;
+    }
+}
@@ -1,56 +1,94 @@
 package com.toktot.interceptor.scheduler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.toktot.common.exception.ToktotException;
-import com.toktot.common.exception.ErrorCode;
-import com.toktot.domain.review.dto.response.search.PopularReviewResponse;
-import com.toktot.domain.review.service.PopularReviewService;
+import com.toktot.domain.review.service.PopularReviewRankingService;
+import com.toktot.domain.review.service.ReviewS3MigrationService;
+import com.toktot.domain.review.service.ReviewService;
+import com.toktot.domain.review.service.ReviewTempImageCleanupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.util.List;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReviewScheduler {
 
-    private final PopularReviewService popularReviewService;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final PopularReviewRankingService popularReviewRankingService;
+    private final ReviewS3MigrationService reviewS3MigrationService;
+    private final ReviewTempImageCleanupService reviewTempImageCleanupService;
+    private final ReviewService reviewService;
 
-    private static final String POPULAR_REVIEWS_KEY = "popular:reviews";
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializePopularRankingOnStartup() {
+        maintainPopularRanking();
+    }
 
     @Scheduled(cron = "0 0 * * * *")
-    public void cachePopularReviews() {
-        log.info("많이 저장된 리뷰 스케줄러 시작: Redis 캐싱 작업을 수행합니다.");
+    public void maintainPopularRanking() {
         try {
-            List<PopularReviewResponse> popularReviews = popularReviewService.getPopularReviews();
+            if (!popularReviewRankingService.isInitialized()) {
+                log.info("인기 리뷰 랭킹이 없어 DB에서 재구성합니다.");
+                popularReviewRankingService.rebuildRanking();
+                return;
+            }
 
-            String popularReviewsJson = serializeToJson(popularReviews);
+            if (popularReviewRankingService.needsRebase()) {
+                log.info("인기 리뷰 랭킹 점수 기준 시각을 갱신합니다.");
+                popularReviewRankingService.rebuildRanking();
+                return;
+            }
+
+            long removed = popularReviewRankingService.trimRanking();
+            log.debug("인기 리뷰 랭킹 정리 완료 - 제거: {}개", removed);
+        } catch (Exception e) {
+            log.error("인기 리뷰 랭킹 유지 작업 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            Duration ttl = Duration.ofHours(24);
-            redisTemplate.opsForValue().set(POPULAR_REVIEWS_KEY, popularReviewsJson, ttl);
+    @Scheduled(fixedDelay = 10_000)
+    public void processReviewImageMigrations() {
+        try {
+            int migrated = reviewS3MigrationService.processDueMigrations();
+            if (migrated > 0) {
+                log.info("리뷰 이미지 이동 작업 처리 완료 - {}건", migrated);
+            }
+        } catch (Exception e) {
+            log.error("리뷰 이미지 이동 작업 중 오류가 발생했습니다.", e);
+        }
+    }
 
-            log.info("많이 저장된 리뷰 {}개를 성공적으로 Redis에 캐싱했습니다. (Key: {})",
-                    popularReviews.size(), POPULAR_REVIEWS_KEY);
+    @Scheduled(cron = "0 30 * * * *")
+    public void sweepExpiredTempImages() {
+        try {
+            int deleted = reviewTempImageCleanupService.sweepExpiredTempImages();
+            log.info("만료된 리뷰 임시 이미지 정리 완료 - {}건", deleted);
         } catch (Exception e) {
-            log.error("많이 저장된 리뷰 캐싱 스케줄 중 오류가 발생했습니다.", e);
+            log.error("리뷰 임시 이미지 정리 중 오류가 발생했습니다.", e);
         }
     }
 
-    private String serializeToJson(Object object) {
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileReviewSortKeysOnStartup() {
+        reconcileReviewSortKeys();
+    }
+
+    @Scheduled(cron = "0 15 4 * * *", zone = "Asia/Seoul")
+    public void reconcileReviewSortKeys() {
         try {
-            return objectMapper.writeValueAsString(object);
-        } catch (JsonProcessingException e) {
-            log.error("JSON 직렬화 실패", e);
-            throw new ToktotException(ErrorCode.EXTERNAL_SERVICE_ERROR,
-                    "데이터를 JSON으로 변환하는데 실패했습니다.");
+            reviewService.reconcileSortKeys();
+        } catch (Exception e) {
+            log.error("리뷰 정렬 키 보정 중 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    public int rebuildPopularRanking() {
+        log.info("인기 리뷰 랭킹 재구성 시작");
+        return popularReviewRankingService.rebuildRanking();
+    }
+}
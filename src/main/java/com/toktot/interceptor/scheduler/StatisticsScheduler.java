@@ -0,0 +1,64 @@
+package com.toktot.interceptor.scheduler;
+
+import com.toktot.domain.localfood.service.LocalFoodStatisticsService;
+import com.toktot.domain.restaurant.service.MenuPriceDistributionService;
+import com.toktot.domain.restaurant.service.RestaurantStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsScheduler {
+
+    private final RestaurantStatisticsService restaurantStatisticsService;
+    private final MenuPriceDistributionService menuPriceDistributionService;
+    private final LocalFoodStatisticsService localFoodStatisticsService;
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void rebuildRestaurantStatistics() {
+        log.info("가게 통계 재계산 배치 시작");
+
+        try {
+            int updatedCount = restaurantStatisticsService.rebuildAllStatistics();
+            log.info("가게 통계 재계산 배치 완료: {} 건 처리", updatedCount);
+        } catch (Exception e) {
+            log.error("가게 통계 재계산 배치 실패", e);
+        }
+
+        try {
+            localFoodStatisticsService.rebuildAllStatistics();
+        } catch (Exception e) {
+            log.error("향토음식 통계 재계산 배치 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void refreshLocalFoodStatistics() {
+        try {
+            localFoodStatisticsService.refreshDirtyStatistics();
+        } catch (Exception e) {
+            log.error("향토음식 통계 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 30_000)
+    public void refreshChangedMenuPriceDistribution() {
+        try {
+            menuPriceDistributionService.refreshIfDirty();
+        } catch (Exception e) {
+            log.error("변경된 메뉴 가격 분포 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void refreshMenuPriceDistribution() {
+        try {
+            menuPriceDistributionService.refresh();
+        } catch (Exception e) {
+            log.error("메뉴 가격 분포 갱신 실패", e);
+        }
+    }
+}
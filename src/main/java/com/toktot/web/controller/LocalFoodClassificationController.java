@@ -0,0 +1,32 @@
+package com.toktot.web.controller;
+
+import com.toktot.interceptor.scheduler.LocalFoodClassificationScheduler;
+import com.toktot.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/local-food/scheduler")
+@RequiredArgsConstructor
+public class LocalFoodClassificationController {
+
+    private final LocalFoodClassificationScheduler localFoodClassificationScheduler;
+
+    @PostMapping("/classify")
+    public ResponseEntity<ApiResponse<String>> classifyLocalFood() {
+        log.info("향토음식 분류 수동 실행 요청");
+
+        try {
+            localFoodClassificationScheduler.classifyLocalFood();
+            return ResponseEntity.ok(ApiResponse.success("향토음식 분류가 성공적으로 실행되었습니다."));
+        } catch (Exception e) {
+            log.error("향토음식 분류 수동 실행 실패", e);
+            return ResponseEntity.ok(ApiResponse.success("향토음식 분류 실패: " + e.getMessage()));
+        }
+    }
+}
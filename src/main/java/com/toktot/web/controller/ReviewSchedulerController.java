@@ -20,8 +20,8 @@ public class ReviewSchedulerController {
         log.info("스케줄러 수동 실행 요청");
 
         try {
-            reviewScheduler.cachePopularReviews();
-            return ResponseEntity.ok(ApiResponse.success("스케줄러가 성공적으로 실행되었습니다."));
+            int rankedCount = reviewScheduler.rebuildPopularRanking();
+            return ResponseEntity.ok(ApiResponse.success("인기 리뷰 랭킹 재구성 완료: " + rankedCount + "개"));
         } catch (Exception e) {
             log.error("스케줄러 수동 실행 실패", e);
             return ResponseEntity.ok(ApiResponse.success("스케줄러 실행 실패: " + e.getMessage()));
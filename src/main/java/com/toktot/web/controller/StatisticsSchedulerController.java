@@ -0,0 +1,45 @@
+package com.toktot.web.controller;
+
+import com.toktot.interceptor.scheduler.StatisticsScheduler;
+import com.toktot.web.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/statistics/scheduler")
+@RequiredArgsConstructor
+public class StatisticsSchedulerController {
+
+    private final StatisticsScheduler statisticsScheduler;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<String>> rebuildRestaurantStatistics() {
+        log.info("가게 통계 재계산 수동 실행 요청");
+
+        try {
+            statisticsScheduler.rebuildRestaurantStatistics();
+            return ResponseEntity.ok(ApiResponse.success("가게 통계 재계산이 성공적으로 실행되었습니다."));
+        } catch (Exception e) {
+            log.error("가게 통계 재계산 수동 실행 실패", e);
+            return ResponseEntity.ok(ApiResponse.success("가게 통계 재계산 실패: " + e.getMessage()));
+        }
+    }
+
+    @PostMapping("/price-distribution")
+    public ResponseEntity<ApiResponse<String>> refreshMenuPriceDistribution() {
+        log.info("메뉴 가격 분포 갱신 수동 실행 요청");
+
+        try {
+            statisticsScheduler.refreshMenuPriceDistribution();
+            return ResponseEntity.ok(ApiResponse.success("메뉴 가격 분포 갱신이 성공적으로 실행되었습니다."));
+        } catch (Exception e) {
+            log.error("메뉴 가격 분포 갱신 수동 실행 실패", e);
+            return ResponseEntity.ok(ApiResponse.success("메뉴 가격 분포 갱신 실패: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.toktot.web.dto;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext,
+        int size
+) {
+
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponse<>(content, nextCursor, nextCursor != null, content.size());
+    }
+
+    public static <T> CursorPageResponse<T> empty() {
+        return new CursorPageResponse<>(List.of(), null, false, 0);
+    }
+}